@@ -0,0 +1,110 @@
+package com.ewaste.ewaste.bench;
+
+import com.ewaste.ewaste.model.*;
+import com.ewaste.ewaste.repository.ArchivedRequestRepository;
+import com.ewaste.ewaste.repository.EwasteRequestRepository;
+import com.ewaste.ewaste.security.JwtTokenProvider;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Builds the entities and collaborators the benchmarks run against, without a Spring context.
+ */
+final class BenchmarkFixtures {
+
+    static final String JWT_SECRET = "benchmark-secret-benchmark-secret-benchmark-secret-0123456789";
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user(long id) {
+        User user = new User("Benchmark User " + id, "user" + id + "@bench.test", "$2a$10$hash");
+        user.setId(id);
+        user.setRole(Role.ROLE_USER);
+        user.setPhoneNumber("9876543210");
+        user.setAddress(id + " Green Street, Sector 12");
+        return user;
+    }
+
+    /** A page of requests shaped like the admin list: every third one is scheduled with a pickup person. */
+    static List<EwasteRequest> requests(int count) {
+        User driver = user(100_000);
+        driver.setRole(Role.ROLE_PICKUP_PERSON);
+        PickupPerson pickupPerson = new PickupPerson();
+        pickupPerson.setId(1L);
+        pickupPerson.setUser(driver);
+
+        List<EwasteRequest> requests = new ArrayList<>(count);
+        Instant now = Instant.now();
+        for (int i = 0; i < count; i++) {
+            EwasteRequest request = new EwasteRequest();
+            request.setId((long) i);
+            request.setUser(user(i % 50));
+            request.setDeviceType("Laptop");
+            request.setBrand("Dell");
+            request.setModel("Latitude " + i);
+            request.setConditionStatus(ConditionStatus.DAMAGED);
+            request.setQuantity(1);
+            request.setPickupAddress(i + " Green Street");
+            request.setRemarks("Please call before arriving");
+            request.setCreatedAt(now.minus(Duration.ofDays(i % 365)));
+            request.setUpdatedAt(now);
+            if (i % 3 == 0) {
+                request.setStatus(RequestStatus.SCHEDULED);
+                request.setAssignedPickupPerson(pickupPerson);
+                request.setScheduledPickupDate(now.plus(Duration.ofDays(2)));
+            }
+            requests.add(request);
+        }
+        return requests;
+    }
+
+    static JwtTokenProvider jwtTokenProvider() {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        setField(provider, "jwtSecret", JWT_SECRET);
+        setField(provider, "jwtExpirationMs", 86_400_000);
+        return provider;
+    }
+
+    /** A repository stub whose findById/findWithUserById always return {@code request}; nothing else is called. */
+    static EwasteRequestRepository repositoryReturning(EwasteRequest request) {
+        return (EwasteRequestRepository) Proxy.newProxyInstance(
+                EwasteRequestRepository.class.getClassLoader(),
+                new Class<?>[]{EwasteRequestRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findById") || method.getName().equals("findWithUserById")) {
+                        return Optional.of(request);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    /** An archive repository stub; the benchmarks never fall through to it. */
+    static ArchivedRequestRepository emptyArchive() {
+        return (ArchivedRequestRepository) Proxy.newProxyInstance(
+                ArchivedRequestRepository.class.getClassLoader(),
+                new Class<?>[]{ArchivedRequestRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findByRequestId")) {
+                        return Optional.empty();
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot set " + name, e);
+        }
+    }
+}
\ No newline at end of file
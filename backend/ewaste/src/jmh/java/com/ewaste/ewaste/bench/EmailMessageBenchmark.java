@@ -0,0 +1,52 @@
+package com.ewaste.ewaste.bench;
+
+import com.ewaste.ewaste.service.EmailService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+/**
+ * Message construction cost in EmailService; the sender keeps the last message instead of
+ * talking to SMTP and each benchmark returns it so nothing is optimised away.
+ */
+@State(Scope.Thread)
+public class EmailMessageBenchmark {
+
+    private EmailService emailService;
+    private SimpleMailMessage lastMessage;
+
+    @Setup
+    public void setUp() {
+        emailService = new EmailService(new JavaMailSenderImpl() {
+            @Override
+            public void send(SimpleMailMessage simpleMessage) {
+                lastMessage = simpleMessage;
+            }
+
+            @Override
+            public void send(SimpleMailMessage... simpleMessages) {
+                lastMessage = simpleMessages[simpleMessages.length - 1];
+            }
+        }, new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public SimpleMailMessage otpEmail() {
+        emailService.sendOtpEmail("user1@bench.test", "123456", "Benchmark User");
+        return lastMessage;
+    }
+
+    @Benchmark
+    public SimpleMailMessage approvalEmail() {
+        emailService.sendApprovalEmail("user1@bench.test", "Benchmark User", 42L, "Laptop");
+        return lastMessage;
+    }
+
+    @Benchmark
+    public SimpleMailMessage pickupAssignmentEmail() {
+        emailService.sendPickupAssignmentEmail("driver@bench.test", "Driver", 42L, "Laptop",
+                "Benchmark User", "9876543210", "12 Green Street", "21 Oct 2026, 10:00 AM");
+        return lastMessage;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.ewaste.ewaste.bench;
+
+import com.ewaste.ewaste.dto.AdminRequestView;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialization cost of the admin request list (GET /api/requests) with and without the
+ * Blackbird module, buffered and streamed through gzip as the server does with compression on.
+ * Scores are per serialized row. Payload sizes (raw and gzipped) are printed once per trial.
+ */
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark {
+
+    private static final int ROWS = 1000;
+
+    @Param({"plain", "blackbird"})
+    public String mapper;
+
+    private List<AdminRequestView> views;
+    private ObjectWriter writer;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Same defaults as Spring Boot's ObjectMapper (java.time support, ISO dates)
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        if ("blackbird".equals(mapper)) {
+            objectMapper.registerModule(new BlackbirdModule());
+        }
+        writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        views = BenchmarkFixtures.requests(ROWS).stream().map(AdminRequestView::fromEntity).toList();
+
+        int raw = buffered().length;
+        int gzipped = gzipStreamed().size();
+        System.out.printf("%n%d rows: %d bytes JSON, %d bytes gzipped (%.1fx)%n",
+                ROWS, raw, gzipped, raw / (double) gzipped);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public byte[] buffered() throws IOException {
+        return writer.writeValueAsBytes(views);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public ByteArrayOutputStream gzipStreamed() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(16 * 1024);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out, 8192);
+             SequenceWriter sequence = writer.writeValuesAsArray(gzip)) {
+            for (AdminRequestView view : views) {
+                sequence.write(view);
+            }
+        }
+        return out;
+    }
+}
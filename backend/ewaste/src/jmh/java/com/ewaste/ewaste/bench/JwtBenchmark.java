@@ -0,0 +1,35 @@
+package com.ewaste.ewaste.bench;
+
+import com.ewaste.ewaste.security.JwtTokenProvider;
+import com.ewaste.ewaste.service.UserDetailsImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+
+/**
+ * What the JWT filter pays on every authenticated request: validate the token, then parse it
+ * again for the subject.
+ */
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = BenchmarkFixtures.jwtTokenProvider();
+        UserDetailsImpl principal = UserDetailsImpl.build(BenchmarkFixtures.user(1));
+        token = tokenProvider.generateJwtToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return tokenProvider.validateJwtToken(token);
+    }
+
+    @Benchmark
+    public String validateAndReadSubject() {
+        return tokenProvider.validateJwtToken(token) ? tokenProvider.getUserNameFromJwtToken(token) : null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.ewaste.ewaste.bench;
+
+import com.ewaste.ewaste.model.EwasteRequest;
+import com.ewaste.ewaste.model.User;
+import com.ewaste.ewaste.service.PdfGenerationService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+
+/**
+ * Document build cost of the submission report and the appreciation certificate.
+ */
+@State(Scope.Benchmark)
+public class PdfGenerationBenchmark {
+
+    private PdfGenerationService pdfGenerationService;
+    private User user;
+    private EwasteRequest request;
+
+    @Setup
+    public void setUp() {
+        request = BenchmarkFixtures.requests(1).get(0);
+        user = request.getUser();
+        pdfGenerationService = new PdfGenerationService(BenchmarkFixtures.repositoryReturning(request),
+                BenchmarkFixtures.emptyArchive(), new SimpleMeterRegistry());
+    }
+
+    @Benchmark
+    public ByteArrayInputStream requestReport() {
+        return pdfGenerationService.generateRequestReportPdf(request.getId(), user.getEmail());
+    }
+
+    @Benchmark
+    public ByteArrayInputStream appreciationCertificate() {
+        return pdfGenerationService.generateAppreciationCertificate(user);
+    }
+}
\ No newline at end of file
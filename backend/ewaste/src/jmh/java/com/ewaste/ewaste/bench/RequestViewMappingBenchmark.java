@@ -0,0 +1,42 @@
+package com.ewaste.ewaste.bench;
+
+import com.ewaste.ewaste.dto.AdminRequestView;
+import com.ewaste.ewaste.dto.EwasteRequestView;
+import com.ewaste.ewaste.model.EwasteRequest;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+
+/**
+ * Per-row cost of the list endpoints' entity to DTO mapping, including the
+ * Instant to LocalDateTime conversions. Scores are per mapped row.
+ */
+@State(Scope.Benchmark)
+public class RequestViewMappingBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private List<EwasteRequest> requests;
+
+    @Setup
+    public void setUp() {
+        requests = BenchmarkFixtures.requests(ROWS);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void adminRequestView(Blackhole blackhole) {
+        for (EwasteRequest request : requests) {
+            blackhole.consume(AdminRequestView.fromEntity(request));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void ewasteRequestView(Blackhole blackhole) {
+        for (EwasteRequest request : requests) {
+            blackhole.consume(EwasteRequestView.fromEntity(request));
+        }
+    }
+}
\ No newline at end of file
@@ -2,9 +2,6 @@ package com.ewaste.ewaste;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
-import org.springframework.context.annotation.Bean;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 
 @SpringBootApplication
 public class SmartEWasteCollectionApplication {
@@ -12,9 +9,4 @@ public class SmartEWasteCollectionApplication {
     public static void main(String[] args) {
         SpringApplication.run(SmartEWasteCollectionApplication.class, args);
     }
-
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,10 @@
+package com.ewaste.ewaste.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+// Cache names and the Caffeine spec are set in application.properties (spring.cache.*)
+@Configuration
+@EnableCaching
+public class CacheConfig {
+}
@@ -9,15 +9,24 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 public class DataSeeder implements CommandLineRunner {
 
     @Autowired UserRepository userRepository;
     @Autowired PasswordEncoder passwordEncoder;
 
+    private static final List<String> DEFAULT_EMAILS = List.of("admin@ewaste.com", "user@example.com");
+
     @Override
     public void run(String... args) throws Exception {
 
+        // Every start after the first: one lookup on the unique email index, then nothing else
+        if (userRepository.countByEmailIn(DEFAULT_EMAILS) == DEFAULT_EMAILS.size()) {
+            return;
+        }
+
         // Create default Admin
         if (!userRepository.existsByEmail("admin@ewaste.com")) {
             User adminUser = new User("Admin User", "admin@ewaste.com", passwordEncoder.encode("admin123"));
@@ -0,0 +1,94 @@
+package com.ewaste.ewaste.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Checks for the MySQL FULLTEXT indexes used by the admin search endpoints (created by the
+ * V2 migration). {@link #isEnabled()} is true only when all of them exist; on other databases
+ * (H2 in tests) it stays false, so callers fall back to LIKE matching.
+ */
+@Component
+public class FullTextIndexes implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(FullTextIndexes.class);
+
+    // InnoDB ignores shorter tokens (innodb_ft_min_token_size defaults to 3)
+    private static final int MIN_TOKEN_LENGTH = 3;
+
+    // index name -> table
+    private static final Map<String, String> INDEXES = new LinkedHashMap<>();
+
+    static {
+        INDEXES.put("ft_support_subject_description", "support_queries");
+        INDEXES.put("ft_request_text", "ewaste_requests");
+        INDEXES.put("ft_user_name_email", "users");
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private volatile boolean enabled;
+
+    public FullTextIndexes(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"MySQL".equalsIgnoreCase(product)) {
+            logger.info("Full-text search disabled on {}; using LIKE matching", product);
+            return;
+        }
+
+        List<String> missing = new ArrayList<>();
+        INDEXES.forEach((name, table) -> {
+            Integer existing = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM information_schema.statistics " +
+                    "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ? AND index_type = 'FULLTEXT'",
+                    Integer.class, table, name);
+            if (existing == null || existing == 0) {
+                missing.add(table + "." + name);
+            }
+        });
+        if (missing.isEmpty()) {
+            enabled = true;
+        } else {
+            logger.warn("FULLTEXT indexes {} are missing, using LIKE matching", missing);
+        }
+    }
+
+    /**
+     * Turns free text into a boolean-mode query that requires every word as a prefix,
+     * e.g. "dell lapt" becomes "+dell* +lapt*". Returns null when no word is long enough
+     * to be indexed, in which case callers should fall back to LIKE.
+     */
+    public static String toBooleanQuery(String text) {
+        if (text == null) {
+            return null;
+        }
+        List<String> terms = new ArrayList<>();
+        for (String word : text.toLowerCase(Locale.ROOT).split("\\s+")) {
+            String term = word.replaceAll("[^\\p{L}\\p{N}_]", "");
+            if (term.length() >= MIN_TOKEN_LENGTH) {
+                terms.add("+" + term + "*");
+            }
+        }
+        return terms.isEmpty() ? null : String.join(" ", terms);
+    }
+}
@@ -0,0 +1,45 @@
+package com.ewaste.ewaste.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Environmental impact factors per recycled item, keyed by lower-cased device type
+ * (app.impact.devices.laptop.weight-kg=2.5). Unknown types fall back to default-factor.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.impact")
+public class ImpactProperties {
+
+    private Factor defaultFactor = new Factor(1.5, 2.5);
+    private Map<String, Factor> devices = new HashMap<>();
+    private double energyKwhPerItem = 15;
+    private double waterLitersPerKg = 20;
+
+    public Factor factorFor(String deviceType) {
+        if (deviceType == null) {
+            return defaultFactor;
+        }
+        return devices.getOrDefault(deviceType.trim().toLowerCase(Locale.ROOT), defaultFactor);
+    }
+
+    @Data
+    public static class Factor {
+        private double weightKg;
+        private double co2Kg;
+
+        public Factor() {
+        }
+
+        public Factor(double weightKg, double co2Kg) {
+            this.weightKg = weightKg;
+            this.co2Kg = co2Kg;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.ewaste.ewaste.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Lock-free token buckets in the style of GCRA: each bucket is a single AtomicLong holding the
+ * time at which it will be full again ("theoretical arrival time"), updated with a CAS loop.
+ * That is equivalent to a token bucket but needs no separate token count or refill timestamp.
+ * Idle buckets are evicted, so the map stays bounded however many IPs call in.
+ */
+public class InMemoryRateLimitStore implements RateLimitStore {
+
+    private final Cache<String, AtomicLong> buckets;
+    private final LongSupplier clock;
+
+    public InMemoryRateLimitStore() {
+        this(System::currentTimeMillis);
+    }
+
+    InMemoryRateLimitStore(LongSupplier clock) {
+        this.clock = clock;
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofHours(1))
+                .maximumSize(200_000)
+                .build();
+    }
+
+    @Override
+    public long tryConsume(String key, RateLimitProperties.Bucket bucket) {
+        long interval = bucket.intervalMillis();
+        long burst = interval * bucket.getCapacity();
+        AtomicLong fullAt = buckets.get(key, k -> new AtomicLong());
+        while (true) {
+            long now = clock.getAsLong();
+            long current = fullAt.get();
+            long next = Math.max(current, now) + interval;
+            long allowedAt = next - burst;
+            if (allowedAt > now) {
+                return allowedAt - now;
+            }
+            if (fullAt.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.ewaste.ewaste.config;
+
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// Module beans are registered on Spring Boot's ObjectMapper
+@Configuration
+public class JacksonConfig {
+
+    // Replaces reflective getter calls with generated lambdas (LambdaMetafactory) during serialization
+    @Bean
+    public Module blackbirdModule() {
+        return new BlackbirdModule();
+    }
+}
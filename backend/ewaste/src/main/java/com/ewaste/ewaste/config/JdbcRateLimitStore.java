@@ -0,0 +1,54 @@
+package com.ewaste.ewaste.config;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Token buckets shared by all instances, one row per bucket in rate_limit_buckets (V4). Uses
+ * the same full-at arithmetic as InMemoryRateLimitStore, with the row lock standing in for the
+ * CAS. Only the limited endpoint classes pay for the extra round trips.
+ */
+public class JdbcRateLimitStore implements RateLimitStore {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public JdbcRateLimitStore(NamedParameterJdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @Override
+    public long tryConsume(String key, RateLimitProperties.Bucket bucket) {
+        long interval = bucket.intervalMillis();
+        long burst = interval * bucket.getCapacity();
+        Long wait = transactionTemplate.execute(status -> {
+            long now = System.currentTimeMillis();
+            MapSqlParameterSource params = new MapSqlParameterSource("key", key).addValue("now", now);
+            // Creates the row if needed and locks it for the rest of the transaction
+            jdbcTemplate.update("INSERT INTO rate_limit_buckets (bucket_key, full_at) VALUES (:key, 0) " +
+                    "ON DUPLICATE KEY UPDATE bucket_key = bucket_key", params);
+            long fullAt = jdbcTemplate.queryForObject(
+                    "SELECT full_at FROM rate_limit_buckets WHERE bucket_key = :key FOR UPDATE", params, Long.class);
+
+            long next = Math.max(fullAt, now) + interval;
+            long allowedAt = next - burst;
+            if (allowedAt > now) {
+                return allowedAt - now;
+            }
+            jdbcTemplate.update("UPDATE rate_limit_buckets SET full_at = :next WHERE bucket_key = :key",
+                    params.addValue("next", next));
+            return 0L;
+        });
+        return wait != null ? wait : 0;
+    }
+
+    // A bucket whose full-at time has passed is the same as no row at all
+    @Scheduled(fixedDelay = 600_000)
+    public void removeFullBuckets() {
+        jdbcTemplate.update("DELETE FROM rate_limit_buckets WHERE full_at < :now",
+                new MapSqlParameterSource("now", System.currentTimeMillis()));
+    }
+}
@@ -0,0 +1,26 @@
+package com.ewaste.ewaste.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// Picks the RateLimitStore; defining another RateLimitStore bean (e.g. Redis-backed) replaces both
+@Configuration
+public class RateLimitConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "app.rate-limit", name = "store", havingValue = "jdbc")
+    public RateLimitStore jdbcRateLimitStore(NamedParameterJdbcTemplate jdbcTemplate,
+                                             TransactionTemplate transactionTemplate) {
+        return new JdbcRateLimitStore(jdbcTemplate, transactionTemplate);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(RateLimitStore.class)
+    public RateLimitStore inMemoryRateLimitStore() {
+        return new InMemoryRateLimitStore();
+    }
+}
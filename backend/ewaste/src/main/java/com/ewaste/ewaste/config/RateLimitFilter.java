@@ -0,0 +1,129 @@
+package com.ewaste.ewaste.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Admission control for the expensive endpoints, applied before the request body is read:
+ * token buckets per endpoint class and caller (429 with Retry-After when empty), plus a cap on
+ * uploads in flight (503) so a burst of large multipart bodies cannot tie up every Tomcat
+ * thread and the disk. Runs right after Spring Security, so authenticated callers are limited
+ * per user and anonymous ones per client IP.
+ */
+@Component
+@Order(SecurityProperties.DEFAULT_FILTER_ORDER + 1)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitFilter.class);
+
+    private static final String VERIFICATION_PATH = "/api/pickup/request/*/initiate-verification";
+
+    private final RateLimitProperties properties;
+    private final RateLimitStore store;
+    private final MeterRegistry meterRegistry;
+    private final Semaphore uploadSlots;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public RateLimitFilter(RateLimitProperties properties, RateLimitStore store, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.store = store;
+        this.meterRegistry = meterRegistry;
+        this.uploadSlots = new Semaphore(properties.getMaxConcurrentUploads());
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !properties.isEnabled() || !"POST".equals(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.startsWith("/api/auth/")) {
+            // Nobody is logged in yet, so the client IP is the only key
+            if (admit("auth", "ip:" + request.getRemoteAddr(), properties.getAuth(), response)) {
+                filterChain.doFilter(request, response);
+            }
+        } else if (path.equals("/api/requests")) {
+            if (admit("upload", caller(request), properties.getUpload(), response)) {
+                doUpload(request, response, filterChain);
+            }
+        } else if (pathMatcher.match(VERIFICATION_PATH, path)) {
+            if (admit("verification", caller(request), properties.getVerification(), response)) {
+                filterChain.doFilter(request, response);
+            }
+        } else {
+            filterChain.doFilter(request, response);
+        }
+    }
+
+    // The multipart body is parsed further down the chain, so holding a slot covers the whole transfer
+    private void doUpload(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        if (!uploadSlots.tryAcquire()) {
+            meterRegistry.counter("ewaste.ratelimit.rejected", "class", "upload-concurrency").increment();
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1, "Too many uploads in progress, please retry shortly");
+            return;
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            uploadSlots.release();
+        }
+    }
+
+    private boolean admit(String endpointClass, String caller, RateLimitProperties.Bucket bucket,
+                          HttpServletResponse response) throws IOException {
+        long waitMillis = store.tryConsume(endpointClass + ":" + caller, bucket);
+        if (waitMillis == 0) {
+            return true;
+        }
+        long retryAfter = Math.max(1, (waitMillis + 999) / 1000);
+        meterRegistry.counter("ewaste.ratelimit.rejected", "class", endpointClass).increment();
+        logger.debug("Rate limited {} for {}, retry in {}s", endpointClass, caller, retryAfter);
+        reject(response, HttpStatus.TOO_MANY_REQUESTS, retryAfter,
+                "Too many requests, please retry in " + retryAfter + " seconds");
+        return false;
+    }
+
+    // getRemoteAddr() is the client address from X-Forwarded-For (server.forward-headers-strategy=native)
+    private static String caller(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write(message);
+    }
+}
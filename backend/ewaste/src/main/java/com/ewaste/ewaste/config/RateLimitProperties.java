@@ -0,0 +1,50 @@
+package com.ewaste.ewaste.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Token buckets applied by RateLimitFilter (app.rate-limit.*). Each endpoint class allows
+ * capacity calls per period, refilled evenly, with bursts up to capacity.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    // memory (per instance) or jdbc (shared by every instance through the rate_limit_buckets table)
+    private String store = "memory";
+
+    // POST /api/auth/** per client IP: every login attempt costs a BCrypt check
+    private Bucket auth = new Bucket(10, Duration.ofMinutes(1));
+    // Request submissions (multipart uploads) per user
+    private Bucket upload = new Bucket(5, Duration.ofMinutes(1));
+    // Pickup verification codes per user; each one sends an email
+    private Bucket verification = new Bucket(3, Duration.ofMinutes(10));
+
+    // Uploads streaming at the same time across all users; further uploads get 503
+    private int maxConcurrentUploads = 8;
+
+    @Data
+    public static class Bucket {
+        private int capacity;
+        private Duration period;
+
+        public Bucket() {
+        }
+
+        public Bucket(int capacity, Duration period) {
+            this.capacity = capacity;
+            this.period = period;
+        }
+
+        // Time for one token to refill
+        public long intervalMillis() {
+            return Math.max(1, period.toMillis() / capacity);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.ewaste.ewaste.config;
+
+/**
+ * Backend for RateLimitFilter's token buckets. The in-memory store is per instance; a shared
+ * implementation (JdbcRateLimitStore, or any other bean of this type) makes the limits hold
+ * across instances.
+ */
+public interface RateLimitStore {
+
+    /**
+     * Takes one token from the bucket named key. Returns 0 when the call is allowed, otherwise
+     * how many milliseconds until a token is available.
+     */
+    long tryConsume(String key, RateLimitProperties.Bucket bucket);
+}
@@ -0,0 +1,18 @@
+package com.ewaste.ewaste.config;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET endpoint whose reads may be served by a replica even outside a read-only
+ * transaction. Writes still go to the primary because they run in read-write transactions.
+ * Only use it where a few seconds of replication lag is acceptable.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ReadFromReplica {
+}
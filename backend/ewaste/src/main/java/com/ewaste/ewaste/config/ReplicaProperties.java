@@ -0,0 +1,35 @@
+package com.ewaste.ewaste.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas behind ReplicaRoutingDataSource (app.datasource.replica.instances[0].url=...).
+ * Username and password default to the primary's spring.datasource.* values.
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "app.datasource.replica")
+public class ReplicaProperties {
+
+    private boolean enabled;
+    private List<Instance> instances = new ArrayList<>();
+    // Replicas further behind than this are skipped until they catch up
+    private long maxLagSeconds = 5;
+    private long checkIntervalMs = 5000;
+    // Optional query returning the lag in seconds; MySQL replicas use SHOW REPLICA STATUS when unset
+    private String lagQuery;
+    // 0 keeps the spring.datasource.hikari.maximum-pool-size of the primary
+    private int poolSize;
+
+    @Data
+    public static class Instance {
+        private String url;
+        private String username;
+        private String password;
+    }
+}
@@ -0,0 +1,36 @@
+package com.ewaste.ewaste.config;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Chooses the database route for each API request. Anything other than GET/HEAD is pinned to
+ * the primary, so a write endpoint never loads (and then saves back) replica data. GET
+ * handlers marked {@link ReadFromReplica} use a replica for all of their reads.
+ */
+public class ReplicaRouteInterceptor implements AsyncHandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String method = request.getMethod();
+        if (!"GET".equals(method) && !"HEAD".equals(method)) {
+            ReplicaRoutingDataSource.setRoute(ReplicaRoutingDataSource.Route.PRIMARY);
+        } else if (handler instanceof HandlerMethod handlerMethod && handlerMethod.hasMethodAnnotation(ReadFromReplica.class)) {
+            ReplicaRoutingDataSource.setRoute(ReplicaRoutingDataSource.Route.REPLICA);
+        }
+        return true;
+    }
+
+    // Async handlers (login) finish on another thread; afterCompletion only runs on the redispatch
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReplicaRoutingDataSource.clearRoute();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReplicaRoutingDataSource.clearRoute();
+    }
+}
@@ -0,0 +1,196 @@
+package com.ewaste.ewaste.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out replica connections for read-only work and primary connections for everything else.
+ * Read-only means a @Transactional(readOnly = true) scope (including Spring Data's default for
+ * finder methods), or a request pinned to {@link Route#REPLICA}. A request pinned to
+ * {@link Route#PRIMARY} never touches a replica, so reads that feed a write see the latest data.
+ *
+ * Replicas are polled for replication lag; any that are unreachable or further behind than
+ * maxLagSeconds are skipped, and when none is usable the primary serves the read. Must be wrapped
+ * in a LazyConnectionDataSourceProxy so the route is chosen after the transaction's read-only
+ * flag is set.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    public enum Route { PRIMARY, REPLICA }
+
+    private static final ThreadLocal<Route> ROUTE = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final long maxLagSeconds;
+    private final String lagQuery;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, long maxLagSeconds, String lagQuery) {
+        this.primary = primary;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.maxLagSeconds = maxLagSeconds;
+        this.lagQuery = lagQuery != null && !lagQuery.isBlank() ? lagQuery : null;
+    }
+
+    /** Pins the current thread to a route until {@link #clearRoute()}; used per HTTP request. */
+    public static void setRoute(Route route) {
+        ROUTE.set(route);
+    }
+
+    public static void clearRoute() {
+        ROUTE.remove();
+    }
+
+    static boolean isReadOnlyWork() {
+        Route route = ROUTE.get();
+        if (route == Route.PRIMARY) {
+            return false;
+        }
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return true;
+        }
+        return route == Route.REPLICA && !TransactionSynchronizationManager.isActualTransactionActive();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (isReadOnlyWork()) {
+            Replica replica = pickReplica();
+            if (replica != null) {
+                try {
+                    return replica.dataSource.getConnection();
+                } catch (SQLException e) {
+                    markDown(replica, e.getMessage());
+                }
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return primary.getConnection(username, password);
+    }
+
+    /** Re-checks every replica's reachability and lag. Runs on a fixed delay and once at startup. */
+    @Scheduled(fixedDelayString = "${app.datasource.replica.check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                Long lag = lagSeconds(connection);
+                if (lag == null) {
+                    markDown(replica, "replication is not running");
+                } else if (lag > maxLagSeconds) {
+                    markDown(replica, "lagging " + lag + "s behind the primary");
+                } else if (!replica.healthy) {
+                    replica.healthy = true;
+                    logger.info("Replica {} is back in rotation ({}s lag)", replica.name, lag);
+                }
+            } catch (SQLException | RuntimeException e) {
+                markDown(replica, e.getMessage());
+            }
+        }
+    }
+
+    public boolean isReplicaHealthy(String name) {
+        return replicas.stream().anyMatch(replica -> replica.name.equals(name) && replica.healthy);
+    }
+
+    @Override
+    public void close() throws SQLException {
+        for (Replica replica : replicas) {
+            closePool(replica.dataSource);
+        }
+        closePool(primary);
+    }
+
+    private static void closePool(DataSource dataSource) throws SQLException {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (SQLException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new SQLException("Could not close datasource", e);
+            }
+        }
+    }
+
+    // Round robin over replicas currently in rotation; null when none is usable
+    private Replica pickReplica() {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private void markDown(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            logger.warn("Replica {} taken out of rotation: {}", replica.name, reason);
+        }
+    }
+
+    // Seconds behind the primary, 0 for a non-MySQL replica without a lag query, null if replication stopped
+    private Long lagSeconds(Connection connection) throws SQLException {
+        if (lagQuery != null) {
+            return queryLag(connection, lagQuery, 1);
+        }
+        if (!"MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName())) {
+            return 0L;
+        }
+        try {
+            return queryLag(connection, "SHOW REPLICA STATUS", "Seconds_Behind_Source");
+        } catch (SQLException e) {
+            // MySQL before 8.0.22
+            return queryLag(connection, "SHOW SLAVE STATUS", "Seconds_Behind_Master");
+        }
+    }
+
+    // An empty result means the server is not replicating at all (e.g. a local copy), so no lag
+    private static Long queryLag(Connection connection, String sql, Object column) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(sql)) {
+            if (!rs.next()) {
+                return 0L;
+            }
+            long lag = column instanceof Integer index ? rs.getLong(index) : rs.getLong((String) column);
+            return rs.wasNull() ? null : lag;
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
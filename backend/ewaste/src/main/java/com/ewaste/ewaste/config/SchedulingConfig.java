@@ -0,0 +1,10 @@
+package com.ewaste.ewaste.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Cron expressions for scheduled jobs live in application.properties (app.*.cron)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,34 @@
+package com.ewaste.ewaste.config;
+
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class SqlDiagnosticsConfig {
+
+    // Wraps the pool in a datasource-proxy so every statement passes through SqlQueryListener.
+    // Static so the post-processor is registered before the DataSource bean is created. The
+    // replica router is skipped: its statements are already counted through the @Primary proxy.
+    @Bean
+    public static BeanPostProcessor sqlDiagnosticsDataSourceProxy(ObjectProvider<SqlQueryListener> listener) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)
+                        && !(bean instanceof ReplicaRoutingDataSource)) {
+                    return ProxyDataSourceBuilder.create(dataSource)
+                            .name(beanName)
+                            .listener(listener.getObject())
+                            .build();
+                }
+                return bean;
+            }
+        };
+    }
+}
\ No newline at end of file
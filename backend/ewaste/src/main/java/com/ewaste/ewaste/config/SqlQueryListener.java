@@ -0,0 +1,53 @@
+package com.ewaste.ewaste.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Counts and times every statement against the current request's {@link SqlRequestStats}
+ * and logs slow ones. Only the SQL text is logged; bind values can hold emails, addresses
+ * and password hashes, so they are never printed.
+ */
+@Component
+public class SqlQueryListener implements QueryExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlQueryListener.class);
+
+    private final long slowQueryMs;
+
+    public SqlQueryListener(@Value("${app.sql.slow-query-ms:250}") long slowQueryMs) {
+        this.slowQueryMs = slowQueryMs;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            stats.statementStarted();
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlRequestStats stats = SqlRequestStats.current();
+        if (stats != null) {
+            // A JDBC batch is one round trip, count it once
+            stats.statementFinished(execInfo.isBatch() ? 1 : queryInfoList.size());
+        }
+
+        if (execInfo.getElapsedTime() >= slowQueryMs) {
+            String sql = queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+            int params = queryInfoList.stream().mapToInt(q -> q.getParametersList().size()).sum();
+            logger.warn("Slow query ({} ms, batch size {}, {} parameter set(s) redacted): {}",
+                    execInfo.getElapsedTime(), execInfo.getBatchSize(), params, sql);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.ewaste.ewaste.config;
+
+/**
+ * Per-thread tally of the JDBC statements issued while serving one HTTP request.
+ * Opened by {@link SqlStatementBudgetFilter}, fed by {@link SqlQueryListener}. Work the request
+ * hands to another thread (streamed bodies, the login pool) is counted too when the task is
+ * wrapped with {@link #propagate}.
+ */
+public final class SqlRequestStats {
+
+    private static final ThreadLocal<SqlRequestStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long jdbcNanos;
+    private long startedAt;
+
+    private SqlRequestStats() {
+    }
+
+    static SqlRequestStats open() {
+        SqlRequestStats stats = new SqlRequestStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /** Continues counting into stats on this thread, e.g. on the async dispatch of the same request. */
+    static void resume(SqlRequestStats stats) {
+        CURRENT.set(stats);
+    }
+
+    static void close() {
+        CURRENT.remove();
+    }
+
+    /**
+     * Runs task with the calling thread's stats (if any) as the current ones, so its statements
+     * count towards the request that submitted it. Call on the submitting thread.
+     */
+    public static Runnable propagate(Runnable task) {
+        SqlRequestStats stats = CURRENT.get();
+        if (stats == null) {
+            return task;
+        }
+        return () -> {
+            SqlRequestStats previous = CURRENT.get();
+            CURRENT.set(stats);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    /** Stats for the request running on this thread, or null outside of a request (startup, jobs). */
+    static SqlRequestStats current() {
+        return CURRENT.get();
+    }
+
+    void statementStarted() {
+        startedAt = System.nanoTime();
+    }
+
+    long statementFinished(int statementCount) {
+        long elapsed = System.nanoTime() - startedAt;
+        statements += statementCount;
+        jdbcNanos += elapsed;
+        return elapsed;
+    }
+
+    public int getStatements() { return statements; }
+    public long getJdbcNanos() { return jdbcNanos; }
+}
\ No newline at end of file
@@ -0,0 +1,97 @@
+package com.ewaste.ewaste.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tracks how many statements and how much JDBC time each HTTP request costs, publishes both
+ * per endpoint (ewaste.sql.statements / ewaste.sql.time) and flags requests that go over the
+ * statement budget, which is usually an N+1 on a lazy association.
+ * <p>
+ * Async requests (the streamed request list, login) are recorded once, on the async dispatch
+ * that writes their result, and include the statements run on the async thread
+ * ({@link SqlStatsTaskDecorator}, {@link SqlRequestStats#propagate}).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementBudgetFilter.class);
+    private static final String STATS_ATTRIBUTE = SqlStatementBudgetFilter.class.getName() + ".stats";
+
+    private final MeterRegistry meterRegistry;
+    private final int statementBudget;
+
+    public SqlStatementBudgetFilter(MeterRegistry meterRegistry,
+                                    @Value("${app.sql.statement-budget:25}") int statementBudget) {
+        this.meterRegistry = meterRegistry;
+        this.statementBudget = statementBudget;
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+
+        SqlRequestStats stats = isAsyncDispatch(request)
+                ? (SqlRequestStats) request.getAttribute(STATS_ATTRIBUTE) : null;
+        if (stats != null) {
+            SqlRequestStats.resume(stats);
+        } else {
+            stats = SqlRequestStats.open();
+            request.setAttribute(STATS_ATTRIBUTE, stats);
+        }
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlRequestStats.close();
+            // Still running on another thread; the async dispatch records the whole request
+            if (!isAsyncStarted(request)) {
+                record(request, stats);
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    private void record(HttpServletRequest request, SqlRequestStats stats) {
+        // Use the mapped pattern (/api/requests/{id}/status), never the raw path, to keep tags bounded
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        String method = request.getMethod();
+
+        DistributionSummary.builder("ewaste.sql.statements")
+                .tags("uri", uri, "method", method)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        meterRegistry.timer("ewaste.sql.time", "uri", uri, "method", method)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.getStatements() > statementBudget) {
+            meterRegistry.counter("ewaste.sql.budget.exceeded", "uri", uri, "method", method).increment();
+            logger.warn("{} {} issued {} SQL statements ({} ms in JDBC), over the budget of {}",
+                    method, uri, stats.getStatements(),
+                    TimeUnit.NANOSECONDS.toMillis(stats.getJdbcNanos()), statementBudget);
+        }
+    }
+}
\ No newline at end of file
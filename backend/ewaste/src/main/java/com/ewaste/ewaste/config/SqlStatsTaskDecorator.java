@@ -0,0 +1,20 @@
+package com.ewaste.ewaste.config;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+
+/**
+ * Applied by Spring Boot to the application task executor, which also runs Spring MVC async
+ * work such as StreamingResponseBody, so those statements count towards the request that
+ * started them.
+ */
+@Component
+public class SqlStatsTaskDecorator implements TaskDecorator {
+
+    @Override
+    @NonNull
+    public Runnable decorate(@NonNull Runnable runnable) {
+        return SqlRequestStats.propagate(runnable);
+    }
+}
@@ -0,0 +1,55 @@
+package com.ewaste.ewaste.config;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes large lists as a JSON array one element at a time, so neither the list nor the
+ * serialized array is held in memory. Uses the application ObjectMapper, so output is identical
+ * to a normal ResponseEntity body; bytes go out through Jackson's and the servlet's buffers
+ * (and gzip when enabled) rather than being flushed per element.
+ */
+@Component
+public class StreamingJsonWriter {
+
+    private final ObjectWriter writer;
+
+    public StreamingJsonWriter(ObjectMapper objectMapper) {
+        this.writer = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    /**
+     * A 200 response whose body is the array of every element rows passes on. rows runs on the
+     * async request thread while the response is written, so it should open its own (read-only)
+     * transaction, e.g. by calling a @Transactional service method.
+     */
+    public <T> ResponseEntity<StreamingResponseBody> array(Consumer<Consumer<T>> rows) {
+        StreamingResponseBody body = out -> {
+            try (SequenceWriter sequence = writer.writeValuesAsArray(out)) {
+                rows.accept(row -> {
+                    try {
+                        sequence.write(row);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+}
@@ -1,16 +1,26 @@
 // backend/ewaste/src/main/java/com/ewaste/ewaste/controller/AdminController.java
 package com.ewaste.ewaste.controller;
 
+import com.ewaste.ewaste.config.ReadFromReplica;
+import com.ewaste.ewaste.dto.PerformancePeriod;
 import com.ewaste.ewaste.dto.PickupPersonRegister;
+import com.ewaste.ewaste.dto.PickupPersonUpdate;
 import com.ewaste.ewaste.model.PickupPerson;
 import com.ewaste.ewaste.model.User;
+import com.ewaste.ewaste.model.UserDeletionJob;
 import com.ewaste.ewaste.repository.UserRepository;
 import com.ewaste.ewaste.service.AdminService;
+import com.ewaste.ewaste.service.ImpactService;
+import com.ewaste.ewaste.service.PickupPersonService;
+import com.ewaste.ewaste.service.RequestArchiveService;
+import com.ewaste.ewaste.service.RequestSearchService;
+import com.ewaste.ewaste.service.UserDeletionService;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -19,45 +29,175 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class AdminController {
 
+    private static final Logger logger = LoggerFactory.getLogger(AdminController.class);
+
     private final AdminService adminService;
     private final UserRepository userRepository;
+    private final ImpactService impactService;
+    private final PickupPersonService pickupPersonService;
+    private final RequestSearchService requestSearchService;
+    private final UserDeletionService userDeletionService;
+    private final RequestArchiveService requestArchiveService;
 
+    // Lean rows with open/completed assignment counts; ?available=true feeds the schedule picker
     @GetMapping("/pickup-persons")
-    public ResponseEntity<?> getPickupPersons() {
-        List<PickupPerson> persons = adminService.getAllPickupPersons();
-        return ResponseEntity.ok(persons);
+    public ResponseEntity<?> getPickupPersons(@RequestParam(required = false) Boolean available) {
+        return ResponseEntity.ok(adminService.getPickupPersonSummaries(available));
+    }
+
+    @PutMapping("/pickup-persons/{id}")
+    public ResponseEntity<?> updatePickupPerson(@PathVariable Long id, @RequestBody PickupPersonUpdate request) {
+        try {
+            PickupPerson updated = adminService.updatePickupPerson(id, request);
+            return ResponseEntity.ok(Map.of("message", "Pickup person updated", "id", updated.getId()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PutMapping("/pickup-persons/{id}/availability")
+    public ResponseEntity<?> updatePickupPersonAvailability(@PathVariable Long id, @RequestBody Map<String, Boolean> payload) {
+        Boolean available = payload.get("available");
+        if (available == null) {
+            return ResponseEntity.badRequest().body("available is required");
+        }
+        try {
+            adminService.updatePickupPersonAvailability(id, available);
+            return ResponseEntity.ok("Pickup person availability updated");
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @DeleteMapping("/pickup-persons/{id}")
+    public ResponseEntity<?> deletePickupPerson(@PathVariable Long id, @RequestParam(defaultValue = "DELETE") String mode) {
+        UserDeletionJob.Mode deletionMode;
+        try {
+            deletionMode = UserDeletionJob.Mode.valueOf(mode.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Unknown mode: " + mode);
+        }
+
+        try {
+            UserDeletionJob job = adminService.deletePickupPerson(id, deletionMode);
+            logger.info("Queued {} job {} for pickup person {}", deletionMode, job.getId(), id);
+            return ResponseEntity.accepted().body(job);
+        } catch (RuntimeException e) {
+            logger.warn("Failed to delete pickup person {}: {}", id, e.getMessage());
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Ranking of all pickup persons by completed jobs, then on-time rate (period: WEEK, MONTH, QUARTER or YEAR)
+    @ReadFromReplica
+    @GetMapping("/pickup-persons/performance")
+    public ResponseEntity<?> getPickupPersonRanking(@RequestParam(defaultValue = "MONTH") String period) {
+        try {
+            return ResponseEntity.ok(pickupPersonService.getPerformanceRanking(PerformancePeriod.valueOf(period.toUpperCase())));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Unknown period: " + period);
+        }
     }
 
     @PostMapping("/register-pickup-person")
     public ResponseEntity<?> registerPickupPerson(@RequestBody PickupPersonRegister request) {
-        System.out.println("Received Registration Request for: " + request.getEmail());
-        System.out.println("Data: " + request.toString()); // Ensure toString() is available via @Data
+        logger.info("Registering pickup person {}", request.getEmail());
 
         try {
             User savedUser = adminService.registerPickupPerson(request);
             return ResponseEntity.ok(savedUser);
         } catch (RuntimeException e) {
-            e.printStackTrace(); // Log the error
+            logger.warn("Pickup person registration failed for {}: {}", request.getEmail(), e.getMessage());
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
 
+    // Full-text search over requests with status/deviceType/condition facet counts (facets=false when paging)
+    @ReadFromReplica
+    @GetMapping("/requests/search")
+    public ResponseEntity<?> searchRequests(@RequestParam(required = false) String q,
+                                            @RequestParam(required = false) String status,
+                                            @RequestParam(required = false) String deviceType,
+                                            @RequestParam(required = false) String condition,
+                                            @RequestParam(defaultValue = "0") int page,
+                                            @RequestParam(defaultValue = "20") int size,
+                                            @RequestParam(defaultValue = "true") boolean facets) {
+        try {
+            return ResponseEntity.ok(requestSearchService.search(q, status, deviceType, condition, page, size, facets));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Unknown status or condition filter");
+        }
+    }
+
+    // Recomputes the per-user impact rollups, e.g. after editing app.impact.* factors
+    @PostMapping("/impact/rebuild")
+    public ResponseEntity<?> rebuildImpactRollups() {
+        int groups = impactService.rebuildRollups();
+        return ResponseEntity.ok(Map.of("message", "Impact rollups rebuilt", "groups", groups));
+    }
+
+    // Runs the nightly archival pass on demand
+    @PostMapping("/requests/archive")
+    public ResponseEntity<?> archiveClosedRequests() {
+        int archived = requestArchiveService.archiveClosedRequests();
+        return ResponseEntity.ok(Map.of("message", "Closed requests archived", "archived", archived));
+    }
+
     // --- USER MANAGEMENT ENDPOINTS ---
 
+    // Paginated directory; q is a name/email prefix, sort is name, email or createdAt
     @GetMapping("/users")
-    public ResponseEntity<?> getAllUsers() {
-        return ResponseEntity.ok(userRepository.findAll());
+    public ResponseEntity<?> getAllUsers(@RequestParam(required = false) String role,
+                                         @RequestParam(required = false) String status,
+                                         @RequestParam(required = false) String q,
+                                         @RequestParam(defaultValue = "name") String sort,
+                                         @RequestParam(defaultValue = "0") int page,
+                                         @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(adminService.getUserDirectory(role, status, q, sort, page, size));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Unknown role: " + role);
+        }
     }
 
+    @ReadFromReplica
+    @GetMapping("/users/summary")
+    public ResponseEntity<?> getUserSummary() {
+        return ResponseEntity.ok(adminService.getUserSummary());
+    }
+
+    // Queues a background job and returns it at once; mode is DELETE (default) or ANONYMIZE
     @DeleteMapping("/users/{id}")
-    public ResponseEntity<?> deleteUser(@PathVariable Long id) {
+    public ResponseEntity<?> deleteUser(@PathVariable Long id, @RequestParam(defaultValue = "DELETE") String mode) {
         if (!userRepository.existsById(id)) {
             return ResponseEntity.notFound().build();
         }
-        userRepository.deleteById(id);
-        return ResponseEntity.ok("User deleted successfully");
+        UserDeletionJob.Mode deletionMode;
+        try {
+            deletionMode = UserDeletionJob.Mode.valueOf(mode.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Unknown mode: " + mode);
+        }
+
+        try {
+            UserDeletionJob job = userDeletionService.startJob(id, deletionMode);
+            logger.info("Queued {} job {} for user {}", deletionMode, job.getId(), id);
+            return ResponseEntity.accepted().body(job);
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @GetMapping("/users/deletion-jobs/{jobId}")
+    public ResponseEntity<?> getDeletionJob(@PathVariable Long jobId) {
+        try {
+            return ResponseEntity.ok(userDeletionService.getJob(jobId));
+        } catch (RuntimeException e) {
+            return ResponseEntity.notFound().build();
+        }
     }
 
+
     @PutMapping("/users/{id}/status")
     public ResponseEntity<?> updateUserStatus(@PathVariable Long id, @RequestBody Map<String, String> payload) {
         try {
@@ -6,57 +6,58 @@ import com.ewaste.ewaste.dto.RegisterRequest;
 import com.ewaste.ewaste.model.Role; // Ensure this matches your package (model vs models)
 import com.ewaste.ewaste.model.User;
 import com.ewaste.ewaste.repository.UserRepository;
-import com.ewaste.ewaste.security.JwtTokenProvider;
+import com.ewaste.ewaste.service.LoginService;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.RejectedExecutionException;
+
 @RestController
 @RequestMapping("/api/auth")
 @CrossOrigin
 @RequiredArgsConstructor
 public class AuthController {
 
-    private final AuthenticationManager authenticationManager;
+    private static final Logger logger = LoggerFactory.getLogger(AuthController.class);
+
+    private final LoginService loginService;
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
-    private final JwtTokenProvider tokenProvider;
 
     @PostMapping("/login")
-    public ResponseEntity<?> authenticateUser(@RequestBody LoginRequest loginRequest) {
-        System.out.println("Login attempt for: " + loginRequest.getEmail()); // DEBUG LOG
+    public CompletableFuture<ResponseEntity<?>> authenticateUser(@RequestBody LoginRequest loginRequest) {
+        logger.debug("Login attempt for {}", loginRequest.getEmail());
 
+        CompletableFuture<AuthResponse> login;
         try {
-            Authentication authentication = authenticationManager.authenticate(
-                    new UsernamePasswordAuthenticationToken(
-                            loginRequest.getEmail(),
-                            loginRequest.getPassword()
-                    )
-            );
-
-            SecurityContextHolder.getContext().setAuthentication(authentication);
-            String jwt = tokenProvider.generateJwtToken(authentication);
-
-            User user = userRepository.findByEmail(loginRequest.getEmail())
-                    .orElseThrow(() -> new RuntimeException("User not found after auth"));
-
-            System.out.println("Login successful for: " + user.getName() + " Role: " + user.getRole()); // DEBUG LOG
-            return ResponseEntity.ok(new AuthResponse(jwt, user));
+            login = loginService.login(loginRequest.getEmail(), loginRequest.getPassword());
+        } catch (RejectedExecutionException e) {
+            logger.warn("Login queue full, rejecting login for {}", loginRequest.getEmail());
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header("Retry-After", "1")
+                    .body("Too many logins in progress, please retry"));
+        }
 
-        } catch (BadCredentialsException e) {
-            System.err.println("Login Failed: Bad Credentials for " + loginRequest.getEmail()); // DEBUG LOG
-            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid email or password");
-        } catch (Exception e) {
-            System.err.println("Login Error: " + e.getMessage()); // DEBUG LOG
+        return login.<ResponseEntity<?>>thenApply(response -> {
+            logger.debug("Login successful for {} with role {}", response.getUser().getEmail(), response.getUser().getRole());
+            return ResponseEntity.ok(response);
+        }).exceptionally(error -> {
+            Throwable e = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+            if (e instanceof BadCredentialsException) {
+                logger.info("Login failed: bad credentials for {}", loginRequest.getEmail());
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body("Invalid email or password");
+            }
+            logger.error("Login error for {}", loginRequest.getEmail(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Login failed: " + e.getMessage());
-        }
+        });
     }
 
     @PostMapping("/register")
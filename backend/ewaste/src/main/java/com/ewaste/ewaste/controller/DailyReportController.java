@@ -0,0 +1,39 @@
+package com.ewaste.ewaste.controller;
+
+import com.ewaste.ewaste.dto.DailyReportSubmit;
+import com.ewaste.ewaste.service.DailyReportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/reports")
+@CrossOrigin
+@RequiredArgsConstructor
+public class DailyReportController {
+
+    private final DailyReportService dailyReportService;
+
+    @GetMapping("/my-daily-reports")
+    public ResponseEntity<?> getMyDailyReports(@AuthenticationPrincipal UserDetails userDetails,
+                                               @RequestParam(defaultValue = "0") int page,
+                                               @RequestParam(defaultValue = "30") int size) {
+        try {
+            return ResponseEntity.ok(dailyReportService.getMyReports(userDetails.getUsername(), page, size));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @PostMapping("/daily-report")
+    public ResponseEntity<?> submitDailyReport(@AuthenticationPrincipal UserDetails userDetails,
+                                               @RequestBody DailyReportSubmit submit) {
+        try {
+            return ResponseEntity.ok(dailyReportService.submitReport(userDetails.getUsername(), submit));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
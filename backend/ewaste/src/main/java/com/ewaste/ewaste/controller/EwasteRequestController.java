@@ -1,19 +1,31 @@
 package com.ewaste.ewaste.controller;
 
+import com.ewaste.ewaste.config.ReadFromReplica;
+import com.ewaste.ewaste.config.StreamingJsonWriter;
 import com.ewaste.ewaste.dto.AdminRequestView;
-import com.ewaste.ewaste.dto.EwasteRequestView;
+import com.ewaste.ewaste.dto.StoredImage;
 import com.ewaste.ewaste.model.*;
+import com.ewaste.ewaste.repository.ArchivedRequestRepository;
 import com.ewaste.ewaste.repository.EwasteRequestRepository;
 import com.ewaste.ewaste.repository.PickupPersonRepository;
 import com.ewaste.ewaste.repository.UserRepository;
 import com.ewaste.ewaste.service.EmailService;
+import com.ewaste.ewaste.service.EwasteRequestService;
 import com.ewaste.ewaste.service.FileStorageService;
+import com.ewaste.ewaste.service.IdempotencyService;
+import com.ewaste.ewaste.service.ImageRejectedException;
+import com.ewaste.ewaste.service.RequestImageService;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.Instant;
 import java.time.ZoneId;
@@ -26,19 +38,41 @@ import java.util.stream.Collectors;
 @CrossOrigin
 @RequiredArgsConstructor
 public class EwasteRequestController {
+    private static final Logger logger = LoggerFactory.getLogger(EwasteRequestController.class);
+
     private final EwasteRequestRepository requestRepository;
     private final UserRepository userRepository;
     private final FileStorageService fileStorageService;
     private final PickupPersonRepository pickupPersonRepository;
+    @Lazy
     private final EmailService emailService;
+    private final EwasteRequestService ewasteRequestService;
+    private final ArchivedRequestRepository archivedRequestRepository;
+    private final RequestImageService requestImageService;
+    private final IdempotencyService idempotencyService;
+    private final StreamingJsonWriter streamingJsonWriter;
 
     @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     public ResponseEntity<?> createRequest(
             @RequestParam(value = "images", required = false) MultipartFile[] files,
             @RequestParam Map<String, String> params,
+            @RequestHeader(value = IdempotencyService.HEADER, required = false) String idempotencyKey,
             Authentication authentication) {
 
-        User user = userRepository.findByEmail(authentication.getName()).orElseThrow();
+        // Hashed before anything is stored, so retries and duplicates never write files
+        List<MultipartFile> uploads = files == null ? List.of() : Arrays.asList(files);
+        List<String> imageHashes = uploads.stream()
+                .map(fileStorageService::contentHash)
+                .collect(Collectors.toList());
+        String fingerprint = IdempotencyService.fingerprint(new TreeMap<>(params).toString(), String.join(",", imageHashes));
+
+        return idempotencyService.execute(authentication.getName(), idempotencyKey, fingerprint,
+                () -> submitRequest(uploads, imageHashes, params, authentication.getName()));
+    }
+
+    private ResponseEntity<?> submitRequest(List<MultipartFile> uploads, List<String> imageHashes,
+                                            Map<String, String> params, String email) {
+        User user = userRepository.findByEmail(email).orElseThrow();
         EwasteRequest request = new EwasteRequest();
         request.setUser(user);
         request.setDeviceType(params.get("deviceType"));
@@ -64,48 +98,66 @@ public class EwasteRequestController {
         request.setPickupAddress(params.get("pickupAddress"));
         request.setRemarks(params.get("remarks"));
 
-        if (files != null) {
-            List<String> fileUrls = Arrays.stream(files)
-                    .map(fileStorageService::storeFile)
-                    .collect(Collectors.toList());
-            request.setImageUrls(String.join(",", fileUrls));
+        Optional<Long> duplicate = ewasteRequestService.findRecentDuplicate(user, request.getDeviceType(), imageHashes);
+        if (duplicate.isPresent()) {
+            logger.info("Request from {} duplicates request {}, not stored again", email, duplicate.get());
+            // Not a 2xx: nothing was created, and the client must not report a new request
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of(
+                    "message", "Request already submitted (request #" + duplicate.get() + ")",
+                    "requestId", duplicate.get()));
+        }
+
+        // Files of a submission that is not saved are referenced by nothing, so they go again
+        List<StoredImage> images = new ArrayList<>();
+        try {
+            for (MultipartFile upload : uploads) {
+                images.add(fileStorageService.storeImage(upload));
+            }
+            ewasteRequestService.submitRequest(request, images);
+        } catch (ImageRejectedException e) {
+            images.forEach(fileStorageService::deleteStored);
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (RuntimeException e) {
+            images.forEach(fileStorageService::deleteStored);
+            throw e;
         }
-        requestRepository.save(request);
         return ResponseEntity.ok("Request submitted successfully");
     }
 
+    // Photos are loaded per request for the detail view; request lists no longer carry them
+    @ReadFromReplica
+    @GetMapping("/{id}/images")
+    public ResponseEntity<?> getRequestImages(@PathVariable Long id, Authentication authentication) {
+        try {
+            boolean admin = authentication.getAuthorities().stream()
+                    .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+            return ResponseEntity.ok(requestImageService.getImages(id, authentication.getName(), admin));
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @ReadFromReplica
     @GetMapping("/user")
     public ResponseEntity<?> getUserRequests(Authentication authentication) {
-        User user = userRepository.findByEmail(authentication.getName()).orElseThrow();
-        List<EwasteRequest> requests = requestRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
-        List<EwasteRequestView> dtos = requests.stream()
-                .map(EwasteRequestView::fromEntity)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(dtos);
+        // Includes requests already moved to the archive
+        return ResponseEntity.ok(ewasteRequestService.getRequestViewsForUser(authentication.getName()));
     }
 
+    // Streamed straight from the query: the full list is never built in memory
     @GetMapping
-    public ResponseEntity<?> getAllRequests() {
-        List<EwasteRequest> requests = requestRepository.findAllByOrderByCreatedAtDesc();
-        List<AdminRequestView> dtos = requests.stream()
-                .map(AdminRequestView::fromEntity)
-                .collect(Collectors.toList());
-        return ResponseEntity.ok(dtos);
+    public ResponseEntity<StreamingResponseBody> getAllRequests() {
+        return streamingJsonWriter.<AdminRequestView>array(ewasteRequestService::forEachAdminView);
     }
 
     @PutMapping("/{id}/status")
     public ResponseEntity<?> updateStatus(@PathVariable Long id, @RequestBody Map<String, String> payload) {
-        EwasteRequest request = requestRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Request not found"));
-
         RequestStatus newStatus = RequestStatus.valueOf(payload.get("status"));
-        request.setStatus(newStatus);
-
-        if (payload.containsKey("rejectionReason")) {
-            request.setRejectionReason(payload.get("rejectionReason"));
-        }
-
-        requestRepository.save(request);
+        EwasteRequest request = ewasteRequestService.changeStatus(id, newStatus, locked -> {
+            if (payload.containsKey("rejectionReason")) {
+                locked.setRejectionReason(payload.get("rejectionReason"));
+            }
+        });
 
         if (newStatus == RequestStatus.APPROVED) {
             try {
@@ -117,7 +169,7 @@ public class EwasteRequestController {
                         request.getDeviceType()
                 );
             } catch (Exception e) {
-                System.err.println("Failed to send approval email: " + e.getMessage());
+                logger.warn("Failed to send approval email for request {}: {}", request.getId(), e.getMessage());
             }
         }
 
@@ -126,7 +178,7 @@ public class EwasteRequestController {
 
     @PutMapping("/{id}/schedule")
     public ResponseEntity<?> schedulePickup(@PathVariable Long id, @RequestBody Map<String, Object> payload) {
-        EwasteRequest request = requestRepository.findById(id)
+        EwasteRequest request = requestRepository.findWithUserById(id)
                 .orElseThrow(() -> new RuntimeException("Request not found"));
 
         String dateStr = (String) payload.get("pickupDate");
@@ -173,7 +225,7 @@ public class EwasteRequestController {
                         readableDate
                 );
             } catch (Exception e) {
-                System.err.println("Failed to send assignment email to pickup person: " + e.getMessage());
+                logger.warn("Failed to send assignment email for request {}: {}", request.getId(), e.getMessage());
                 // Don't fail the request if email fails, just log it
             }
             // -----------------------------------
@@ -185,9 +237,11 @@ public class EwasteRequestController {
         return ResponseEntity.ok("Pickup scheduled successfully");
     }
 
+    @ReadFromReplica
     @GetMapping("/dashboard/stats")
     public ResponseEntity<?> getDashboardStats() {
-        List<Map<String, Object>> deviceStats = requestRepository.countRequestsByDeviceType();
+        List<Map<String, Object>> deviceStats = new ArrayList<>(requestRepository.countRequestsByDeviceType());
+        deviceStats.addAll(archivedRequestRepository.countRequestsByDeviceType());
         Map<String, Long> statsMap = new HashMap<>();
 
         for (Map<String, Object> row : deviceStats) {
@@ -197,7 +251,7 @@ public class EwasteRequestController {
                 device = "Unknown";
             }
 
-            statsMap.put(device, (Long) row.get("count"));
+            statsMap.merge(device, (Long) row.get("count"), Long::sum);
         }
         return ResponseEntity.ok(Map.of("deviceTypeStats", statsMap));
     }
@@ -0,0 +1,33 @@
+package com.ewaste.ewaste.controller;
+
+import com.ewaste.ewaste.config.ReadFromReplica;
+import com.ewaste.ewaste.service.ImpactService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/impact")
+@CrossOrigin
+@RequiredArgsConstructor
+public class ImpactController {
+
+    private final ImpactService impactService;
+
+    @GetMapping("/me")
+    public ResponseEntity<?> getMyImpact(@AuthenticationPrincipal UserDetails userDetails) {
+        try {
+            return ResponseEntity.ok(impactService.getImpactForUser(userDetails.getUsername()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    @ReadFromReplica
+    @GetMapping("/leaderboard")
+    public ResponseEntity<?> getLeaderboard(@RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(impactService.getLeaderboard(limit));
+    }
+}
\ No newline at end of file
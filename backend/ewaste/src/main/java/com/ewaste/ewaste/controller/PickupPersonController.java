@@ -1,19 +1,21 @@
 package com.ewaste.ewaste.controller;
 
-import com.ewaste.ewaste.dto.AdminRequestView;
+import com.ewaste.ewaste.dto.PerformancePeriod;
 import com.ewaste.ewaste.model.EwasteRequest;
 import com.ewaste.ewaste.model.RequestStatus;
 import com.ewaste.ewaste.model.User;
 import com.ewaste.ewaste.repository.EwasteRequestRepository;
 import com.ewaste.ewaste.repository.UserRepository;
 import com.ewaste.ewaste.service.EmailService;
+import com.ewaste.ewaste.service.EwasteRequestService;
+import com.ewaste.ewaste.service.PickupPersonService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.Instant;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
@@ -28,7 +30,10 @@ public class PickupPersonController {
 
     private final EwasteRequestRepository requestRepository;
     private final UserRepository userRepository;
+    @Lazy
     private final EmailService emailService;
+    private final EwasteRequestService ewasteRequestService;
+    private final PickupPersonService pickupPersonService;
 
     @Value("${google.maps.api.key}")
     private String googleMapsApiKey;
@@ -44,20 +49,12 @@ public class PickupPersonController {
             User user = userRepository.findByEmail(authentication.getName())
                     .orElseThrow(() -> new RuntimeException("User not found"));
 
-            Long pickupPersonId = user.getPickupPersonProfile() != null ?
-                    user.getPickupPersonProfile().getId() : null;
-
-            if(pickupPersonId == null) {
+            if (user.getPickupPersonProfile() == null) {
                 return ResponseEntity.badRequest().body("User is not a pickup person");
             }
 
-            List<EwasteRequest> requests = requestRepository.findByAssignedPickupPersonId(pickupPersonId);
-
-            List<AdminRequestView> dtos = requests.stream()
-                    .map(AdminRequestView::fromEntity)
-                    .collect(Collectors.toList());
-
-            return ResponseEntity.ok(dtos);
+            // Mapped inside the service transaction; nothing is loaded while the response is written
+            return ResponseEntity.ok(pickupPersonService.getAssignedRequests(user.getEmail()));
 
         } catch (Exception e) {
             return ResponseEntity.internalServerError()
@@ -101,7 +98,8 @@ public class PickupPersonController {
     @PostMapping("/request/{id}/initiate-verification")
     public ResponseEntity<?> initiateVerification(@PathVariable Long id) {
         try {
-            EwasteRequest request = requestRepository.findById(id)
+            // The customer is fetched with the request; no connection is held while the mail is sent
+            EwasteRequest request = requestRepository.findWithUserById(id)
                     .orElseThrow(() -> new RuntimeException("Request not found"));
 
             User customer = request.getUser();
@@ -134,12 +132,7 @@ public class PickupPersonController {
                 return ResponseEntity.badRequest().body(Map.of("error", "Invalid OTP"));
             }
 
-            EwasteRequest request = requestRepository.findById(id)
-                    .orElseThrow(() -> new RuntimeException("Request not found"));
-
-            request.setStatus(RequestStatus.COMPLETED);
-            request.setCompletedDate(Instant.now());
-            requestRepository.save(request);
+            ewasteRequestService.changeStatus(id, RequestStatus.COMPLETED, null);
 
             // Clear used OTP
             otpStorage.remove(id);
@@ -155,11 +148,7 @@ public class PickupPersonController {
     @PostMapping("/request/{id}/update-status")
     public ResponseEntity<?> updateStatus(@PathVariable Long id, @RequestParam String status) {
         try {
-            EwasteRequest request = requestRepository.findById(id)
-                    .orElseThrow(() -> new RuntimeException("Request not found"));
-
-            request.setStatus(RequestStatus.valueOf(status.toUpperCase()));
-            requestRepository.save(request);
+            ewasteRequestService.changeStatus(id, RequestStatus.valueOf(status.toUpperCase()), null);
 
             return ResponseEntity.ok(Map.of("message", "Status updated successfully"));
 
@@ -169,6 +158,18 @@ public class PickupPersonController {
         }
     }
 
+    // --- Performance KPIs (period: WEEK, MONTH, QUARTER or YEAR) ---
+    @GetMapping("/performance")
+    public ResponseEntity<?> getPerformance(Authentication authentication,
+                                            @RequestParam(defaultValue = "MONTH") String period) {
+        try {
+            PerformancePeriod performancePeriod = PerformancePeriod.valueOf(period.toUpperCase());
+            return ResponseEntity.ok(pickupPersonService.getPerformance(authentication.getName(), performancePeriod));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     @GetMapping("/map-key")
     public ResponseEntity<?> getGoogleMapsApiKey() {
         if (googleMapsApiKey == null || googleMapsApiKey.trim().isEmpty()) {
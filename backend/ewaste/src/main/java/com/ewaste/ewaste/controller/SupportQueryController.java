@@ -1,17 +1,13 @@
 package com.ewaste.ewaste.controller;
 
 import com.ewaste.ewaste.model.SupportQuery;
-import com.ewaste.ewaste.model.User;
-import com.ewaste.ewaste.repository.SupportQueryRepository;
-import com.ewaste.ewaste.repository.UserRepository;
+import com.ewaste.ewaste.service.SupportQueryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 
-import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Map;
 
 @RestController
@@ -20,44 +16,46 @@ import java.util.Map;
 @CrossOrigin
 public class SupportQueryController {
 
-    private final SupportQueryRepository supportQueryRepository;
-    private final UserRepository userRepository;
+    private final SupportQueryService supportQueryService;
 
     // --- USER ENDPOINTS ---
 
     @PostMapping("/create")
     public ResponseEntity<?> createTicket(@RequestBody SupportQuery query,
                                           @AuthenticationPrincipal UserDetails userDetails) {
-        User user = userRepository.findByEmail(userDetails.getUsername())
-                .orElseThrow(() -> new RuntimeException("User not found"));
-
-        query.setUser(user);
-        query.setStatus("Open");
-        query.setCreatedAt(LocalDateTime.now());
-
-        SupportQuery savedQuery = supportQueryRepository.save(query);
-        return ResponseEntity.ok(savedQuery);
+        try {
+            return ResponseEntity.ok(supportQueryService.createTicket(query, userDetails.getUsername()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
 
     @GetMapping("/my-tickets")
     public ResponseEntity<?> getMyTickets(@AuthenticationPrincipal UserDetails userDetails) {
-        List<SupportQuery> tickets = supportQueryRepository.findByUser_EmailOrderByCreatedAtDesc(userDetails.getUsername());
-        return ResponseEntity.ok(tickets);
+        return ResponseEntity.ok(supportQueryService.getMyTickets(userDetails.getUsername()));
     }
 
     // --- ADMIN ENDPOINTS ---
 
+    // Paginated queue, oldest first by default; q searches subject and description
     @GetMapping("/admin/all")
-    public ResponseEntity<?> getAllTickets() {
-        return ResponseEntity.ok(supportQueryRepository.findAllByOrderByCreatedAtDesc());
+    public ResponseEntity<?> getAllTickets(@RequestParam(required = false) String status,
+                                           @RequestParam(required = false) String category,
+                                           @RequestParam(required = false) String q,
+                                           @RequestParam(defaultValue = "false") boolean newestFirst,
+                                           @RequestParam(defaultValue = "0") int page,
+                                           @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(supportQueryService.getQueue(status, category, q, newestFirst, page, size));
+    }
+
+    @GetMapping("/admin/stats")
+    public ResponseEntity<?> getTicketStats() {
+        return ResponseEntity.ok(supportQueryService.countByStatus());
     }
 
     // FIX: Use Map<String, String> to extract the 'reply' key from the JSON object
     @PutMapping("/admin/{id}/reply")
     public ResponseEntity<?> replyToTicket(@PathVariable Long id, @RequestBody Map<String, String> payload) {
-        SupportQuery ticket = supportQueryRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Ticket not found"));
-
         // Extract the value associated with the "reply" key
         String replyText = payload.get("reply");
 
@@ -65,10 +63,19 @@ public class SupportQueryController {
             return ResponseEntity.badRequest().body("Reply cannot be empty");
         }
 
-        ticket.setAdminReply(replyText); // Sets only "tttt", not "{\"reply\":\"tttt\"}"
-        ticket.setStatus("Resolved");
-        ticket.setResolvedAt(LocalDateTime.now());
+        try {
+            return ResponseEntity.ok(supportQueryService.replyToTicket(id, replyText));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
 
-        return ResponseEntity.ok(supportQueryRepository.save(ticket));
+    @PutMapping("/admin/{id}/status")
+    public ResponseEntity<?> updateTicketStatus(@PathVariable Long id, @RequestBody Map<String, String> payload) {
+        try {
+            return ResponseEntity.ok(supportQueryService.updateStatus(id, payload.get("status")));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
     }
-}
\ No newline at end of file
+}
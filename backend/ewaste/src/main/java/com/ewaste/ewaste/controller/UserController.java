@@ -1,11 +1,13 @@
 package com.ewaste.ewaste.controller;
 
+import com.ewaste.ewaste.config.ReadFromReplica;
 import com.ewaste.ewaste.dto.ProfileUpdateRequest;
 import com.ewaste.ewaste.service.EwasteRequestService;
 import com.ewaste.ewaste.service.PdfGenerationService;
 import com.ewaste.ewaste.service.StatsService;
 import com.ewaste.ewaste.service.UserService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.core.io.InputStreamResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
@@ -23,10 +25,21 @@ import java.io.ByteArrayInputStream;
 public class UserController {
 
     private final EwasteRequestService ewasteRequestService;
+    @Lazy
     private final PdfGenerationService pdfGenerationService;
     private final StatsService statsService;
     private final UserService userService; // Inject UserService
 
+    // Current user's profile, served from the userProfiles cache
+    @GetMapping("/me")
+    public ResponseEntity<?> getMe(@AuthenticationPrincipal UserDetails userDetails) {
+        try {
+            return ResponseEntity.ok(userService.getProfile(userDetails.getUsername()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
     // --- Profile Update Endpoint ---
     @PutMapping("/profile")
     public ResponseEntity<?> updateProfile(@RequestBody ProfileUpdateRequest request,
@@ -40,11 +53,13 @@ public class UserController {
         }
     }
 
+    @ReadFromReplica
     @GetMapping("/my-requests")
     public ResponseEntity<?> getMyRequests(@AuthenticationPrincipal UserDetails userDetails) {
-        return ResponseEntity.ok(ewasteRequestService.getRequestsForUser(userDetails.getUsername()));
+        return ResponseEntity.ok(ewasteRequestService.getRequestViewsForUser(userDetails.getUsername()));
     }
 
+    @ReadFromReplica
     @GetMapping("/request/{requestId}/report")
     public ResponseEntity<InputStreamResource> getSubmissionReport(@PathVariable Long requestId, @AuthenticationPrincipal UserDetails userDetails) {
         ByteArrayInputStream bis = pdfGenerationService.generateRequestReportPdf(requestId, userDetails.getUsername());
@@ -59,6 +74,7 @@ public class UserController {
                 .body(new InputStreamResource(bis));
     }
 
+    @ReadFromReplica
     @GetMapping("/my-stats/requests-by-status")
     public ResponseEntity<?> getMyRequestStats(@AuthenticationPrincipal UserDetails userDetails) {
         return ResponseEntity.ok(statsService.getUserRequestStats(userDetails.getUsername()));
@@ -1,7 +1,9 @@
 package com.ewaste.ewaste.dto;
 
+import com.ewaste.ewaste.model.ConditionStatus;
 import com.ewaste.ewaste.model.EwasteRequest;
 import com.ewaste.ewaste.model.RequestStatus;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 
@@ -25,13 +27,40 @@ public class AdminRequestView {
     private String userContactInfo;
     private String userAddress;
 
-    // --- Image Evidence ---
-    private String imageUrls; // <--- ADDED FIELD
-
     // --- Schedule Info ---
     private String assignedPersonName;
     private LocalDateTime scheduledPickupDate;
 
+    public AdminRequestView() {
+    }
+
+    // JPQL constructor for EwasteRequestRepository.streamAdminViews: one row per request, no entities
+    public AdminRequestView(Long id, String deviceType, String brand, String model, ConditionStatus conditionStatus,
+                            Integer quantity, String pickupAddress, String remarks, RequestStatus status,
+                            Instant createdAt, String rejectionReason, Long userId, String userEmail, String userName,
+                            String userPhoneNumber, String userAddress, String assignedPersonName,
+                            Instant scheduledPickupDate) {
+        this.id = id;
+        this.deviceType = deviceType;
+        this.brand = brand;
+        this.model = model;
+        this.condition = conditionStatus != null ? conditionStatus.name() : null;
+        this.quantity = quantity;
+        this.pickupAddress = pickupAddress;
+        this.remarks = remarks;
+        this.status = status;
+        this.createdAt = createdAt != null ? LocalDateTime.ofInstant(createdAt, ZoneId.systemDefault()) : null;
+        this.rejectionReason = rejectionReason;
+        this.userId = userId;
+        this.userEmail = userEmail;
+        this.userName = userName;
+        this.userContactInfo = userPhoneNumber;
+        this.userAddress = userAddress;
+        this.assignedPersonName = assignedPersonName;
+        this.scheduledPickupDate = scheduledPickupDate != null
+                ? LocalDateTime.ofInstant(scheduledPickupDate, ZoneId.systemDefault()) : null;
+    }
+
     public static AdminRequestView fromEntity(EwasteRequest request) {
         AdminRequestView dto = new AdminRequestView();
         dto.setId(request.getId());
@@ -64,9 +93,6 @@ public class AdminRequestView {
             dto.setUserName("N/A");
         }
 
-        // --- Populate Image URLs ---
-        dto.setImageUrls(request.getImageUrls());
-
         if (request.getAssignedPickupPerson() != null) {
             dto.setAssignedPersonName(request.getAssignedPickupPerson().getUser().getName());
         }
@@ -112,10 +138,6 @@ public class AdminRequestView {
     public String getUserAddress() { return userAddress; }
     public void setUserAddress(String userAddress) { this.userAddress = userAddress; }
 
-    // --- Image Getter/Setter ---
-    public String getImageUrls() { return imageUrls; }
-    public void setImageUrls(String imageUrls) { this.imageUrls = imageUrls; }
-
     public String getAssignedPersonName() { return assignedPersonName; }
     public void setAssignedPersonName(String assignedPersonName) { this.assignedPersonName = assignedPersonName; }
     public LocalDateTime getScheduledPickupDate() { return scheduledPickupDate; }
@@ -0,0 +1,14 @@
+package com.ewaste.ewaste.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DailyJobCounts {
+    private Long completed;
+    private Long collected;
+    private Long items;
+}
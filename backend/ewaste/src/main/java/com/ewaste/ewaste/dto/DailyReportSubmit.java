@@ -0,0 +1,18 @@
+package com.ewaste.ewaste.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Data
+public class DailyReportSubmit {
+    private LocalDate date;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private String issues;
+    private String notes;
+    private Integer vehicleMileage;
+    private Double fuelCost;
+    private Double environmentalImpact;
+}
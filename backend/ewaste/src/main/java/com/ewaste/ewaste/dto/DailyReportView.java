@@ -0,0 +1,45 @@
+package com.ewaste.ewaste.dto;
+
+import com.ewaste.ewaste.model.DailyReport;
+import lombok.Data;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@Data
+public class DailyReportView {
+    private Long id;
+    private LocalDate date;
+    private LocalTime startTime;
+    private LocalTime endTime;
+    private int completedJobs;
+    private int collectedJobs;
+    private int itemsHandled;
+    private Integer vehicleMileage;
+    private Double fuelCost;
+    private Double environmentalImpact;
+    private String issues;
+    private String notes;
+    private String status;
+    private Instant submittedAt;
+
+    public static DailyReportView fromEntity(DailyReport report) {
+        DailyReportView view = new DailyReportView();
+        view.setId(report.getId());
+        view.setDate(report.getReportDate());
+        view.setStartTime(report.getStartTime());
+        view.setEndTime(report.getEndTime());
+        view.setCompletedJobs(report.getCompletedJobs());
+        view.setCollectedJobs(report.getCollectedJobs());
+        view.setItemsHandled(report.getItemsHandled());
+        view.setVehicleMileage(report.getVehicleMileage());
+        view.setFuelCost(report.getFuelCost());
+        view.setEnvironmentalImpact(report.getEnvironmentalImpact());
+        view.setIssues(report.getIssues());
+        view.setNotes(report.getNotes());
+        view.setStatus(report.getStatus());
+        view.setSubmittedAt(report.getSubmittedAt());
+        return view;
+    }
+}
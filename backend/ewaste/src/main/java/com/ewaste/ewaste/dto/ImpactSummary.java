@@ -0,0 +1,35 @@
+package com.ewaste.ewaste.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class ImpactSummary {
+    private long totalRequests;
+    private long totalItems;
+    private double totalWeightKg;
+    private double co2SavedKg;
+    private double energySavedKwh;
+    private double waterSavedLiters;
+
+    // Oldest month first
+    private List<MonthlyImpact> history;
+
+    // 1-based position by CO2 saved, and how many users have recycled anything
+    private long communityPosition;
+    private long communityParticipants;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MonthlyImpact {
+        private String month; // yyyy-MM
+        private long items;
+        private double weightKg;
+        private double co2Kg;
+    }
+}
\ No newline at end of file
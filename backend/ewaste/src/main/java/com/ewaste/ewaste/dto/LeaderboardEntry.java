@@ -0,0 +1,24 @@
+package com.ewaste.ewaste.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+public class LeaderboardEntry {
+    private int rank;
+    private Long userId;
+    private String userName;
+    private long totalItems;
+    private double totalWeightKg;
+    private double co2SavedKg;
+
+    // Used by the JPQL constructor expression in UserImpactRollupRepository
+    public LeaderboardEntry(Long userId, String userName, Long totalItems, Double totalWeightKg, Double co2SavedKg) {
+        this.userId = userId;
+        this.userName = userName;
+        this.totalItems = totalItems != null ? totalItems : 0;
+        this.totalWeightKg = totalWeightKg != null ? totalWeightKg : 0;
+        this.co2SavedKg = co2SavedKg != null ? co2SavedKg : 0;
+    }
+}
\ No newline at end of file
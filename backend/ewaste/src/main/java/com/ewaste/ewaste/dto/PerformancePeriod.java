@@ -0,0 +1,19 @@
+package com.ewaste.ewaste.dto;
+
+// Rolling windows offered by the performance pages, ending now
+public enum PerformancePeriod {
+    WEEK(7),
+    MONTH(30),
+    QUARTER(90),
+    YEAR(365);
+
+    private final int days;
+
+    PerformancePeriod(int days) {
+        this.days = days;
+    }
+
+    public int getDays() {
+        return days;
+    }
+}
@@ -0,0 +1,43 @@
+package com.ewaste.ewaste.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+public class PickupPerformance {
+    private Long pickupPersonId;
+    private String name;
+    private PerformancePeriod period;
+    private Instant from;
+    private Instant to;
+
+    // 1-based, only set in the admin ranking
+    private Integer rank;
+
+    // All requests currently assigned, only set for a single person's view
+    private Long assignedJobs;
+
+    // Completed within the period; turnaround is scheduledPickupDate -> completedDate
+    private long completedJobs;
+    private Double averageTurnaroundMinutes;
+    private Double p90TurnaroundMinutes;
+    private Double onTimeRate; // percent
+
+    // Oldest week first, only set for a single person's view
+    private List<WeeklyPerformance> weeklyTrend;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class WeeklyPerformance {
+        private LocalDate weekStart; // Monday
+        private long completedJobs;
+        private Double onTimeRate;
+    }
+}
@@ -0,0 +1,27 @@
+package com.ewaste.ewaste.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// Flat listing row for the admin screens: no password, no entity graph
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PickupPersonSummary {
+    private Long id;
+    private Long userId;
+    private String name;
+    private String email;
+    private String phoneNumber;
+    private String address;
+    private String vehicleNumber;
+    private boolean available;
+    private Instant createdAt;
+
+    // SCHEDULED requests still waiting on this person
+    private Long openAssignments;
+    private Long completedPickups;
+}
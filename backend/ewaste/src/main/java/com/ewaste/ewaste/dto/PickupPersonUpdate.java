@@ -0,0 +1,13 @@
+package com.ewaste.ewaste.dto;
+
+import lombok.Data;
+
+@Data
+public class PickupPersonUpdate {
+    private String name;
+    private String email;
+    private String phoneNumber;
+    private String address;
+    private String vehicleNumber;
+    private Boolean available;
+}
@@ -0,0 +1,27 @@
+package com.ewaste.ewaste.dto;
+
+import com.ewaste.ewaste.model.RequestImage;
+import lombok.Data;
+
+@Data
+public class RequestImageView {
+    private Long id;
+    private String url;
+    private String thumbnailUrl;
+    private String mediumUrl;
+    private Integer width;
+    private Integer height;
+    private Long sizeBytes;
+
+    public static RequestImageView fromEntity(RequestImage image) {
+        RequestImageView view = new RequestImageView();
+        view.setId(image.getId());
+        view.setUrl(image.getUrl());
+        view.setThumbnailUrl(image.getThumbnailUrl());
+        view.setMediumUrl(image.getMediumUrl());
+        view.setWidth(image.getWidth());
+        view.setHeight(image.getHeight());
+        view.setSizeBytes(image.getSizeBytes());
+        return view;
+    }
+}
@@ -0,0 +1,23 @@
+package com.ewaste.ewaste.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+public class RequestSearchResult {
+    private List<AdminRequestView> content;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+
+    // Value -> hit count over all matches (not just this page), largest first. Each facet ignores
+    // its own filter. Null unless the search asked for facets
+    private Map<String, Long> statusFacets;
+    private Map<String, Long> deviceTypeFacets;
+    private Map<String, Long> conditionFacets;
+}
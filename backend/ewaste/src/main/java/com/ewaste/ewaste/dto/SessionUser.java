@@ -0,0 +1,33 @@
+package com.ewaste.ewaste.dto;
+
+import com.ewaste.ewaste.model.Role;
+import com.ewaste.ewaste.model.User;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+/**
+ * The user part of the login response, kept by the frontend for the session. Only plain columns
+ * of the already-loaded User, so building it never touches a lazy association and the password
+ * hash never leaves the server.
+ */
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class SessionUser {
+    private Long id;
+    private String name;
+    private String email;
+    private Role role;
+    private String phoneNumber;
+    private String address;
+
+    public static SessionUser fromEntity(User user) {
+        SessionUser session = new SessionUser();
+        session.setId(user.getId());
+        session.setName(user.getName());
+        session.setEmail(user.getEmail());
+        session.setRole(user.getRole());
+        session.setPhoneNumber(user.getPhoneNumber());
+        session.setAddress(user.getAddress());
+        return session;
+    }
+}
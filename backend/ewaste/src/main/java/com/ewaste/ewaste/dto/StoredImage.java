@@ -0,0 +1,19 @@
+package com.ewaste.ewaste.dto;
+
+import lombok.Data;
+
+/**
+ * What FileStorageService recorded about one upload. Dimensions and variant URLs are null
+ * when the file is not an image ImageIO can decode, or is already smaller than the variant.
+ */
+@Data
+public class StoredImage {
+    private String url;
+    private String contentHash;
+    private long sizeBytes;
+    private Integer width;
+    private Integer height;
+    private String contentType;
+    private String thumbnailUrl;
+    private String mediumUrl;
+}
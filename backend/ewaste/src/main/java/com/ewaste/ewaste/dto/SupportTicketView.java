@@ -0,0 +1,25 @@
+package com.ewaste.ewaste.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Ticket row for the support lists: only the submitter's name and email instead of the User entity
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SupportTicketView {
+    private Long id;
+    private String subject;
+    private String category;
+    private String description;
+    private String status;
+    private String relatedRequestId;
+    private String adminReply;
+    private LocalDateTime createdAt;
+    private LocalDateTime resolvedAt;
+    private String userName;
+    private String userEmail;
+}
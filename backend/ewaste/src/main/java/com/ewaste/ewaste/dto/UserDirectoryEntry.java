@@ -0,0 +1,24 @@
+package com.ewaste.ewaste.dto;
+
+import com.ewaste.ewaste.model.Role;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+// Admin user directory row: no password hash or relations, field names as ManageUsers.jsx reads them
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserDirectoryEntry {
+    private Long id;
+    private String name;
+    private String email;
+    private Role role;
+    private String status;
+    private String contactInfo;
+    private String address;
+    private Instant joinDate;
+    private Long requestCount;
+}
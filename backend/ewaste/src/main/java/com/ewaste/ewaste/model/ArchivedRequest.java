@@ -0,0 +1,111 @@
+package com.ewaste.ewaste.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * A closed (COMPLETED/REJECTED) request moved out of ewaste_requests by RequestArchiveService.
+ * Rows keep their original id; closedMonth (yyyyMM of the completion date) is part of the key
+ * because MySQL requires the partitioning column in every unique key. Partitioned tables cannot
+ * have foreign keys either, so the user link is mapped without a constraint and the assigned
+ * pickup person is kept as a plain id plus a name snapshot.
+ */
+@Entity
+@Table(name = "ewaste_requests_archive",
+        indexes = {
+                @Index(name = "idx_archive_user_created", columnList = "user_id, created_at"),
+                @Index(name = "idx_archive_assignee_completed", columnList = "assigned_pickup_person_id, completed_date")
+        })
+@IdClass(ArchivedRequest.Key.class)
+@Data
+@NoArgsConstructor
+public class ArchivedRequest {
+
+    @Id
+    private Long id;
+
+    @Id
+    @Column(name = "closed_month")
+    private Integer closedMonth;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private User user;
+
+    @Column(nullable = false)
+    private String deviceType;
+    private String brand;
+    private String model;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ConditionStatus conditionStatus;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    @Column(nullable = false)
+    private String pickupAddress;
+
+    private String remarks;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private RequestStatus status;
+
+    private String rejectionReason;
+    private String adminRemarks;
+    private Instant scheduledPickupDate;
+    private Instant completedDate;
+    private Instant collectedDate;
+
+    private Long assignedPickupPersonId;
+    private String assignedPersonName;
+
+    @Column(nullable = false)
+    private Instant createdAt;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    @Column(nullable = false)
+    private Instant archivedAt;
+
+    /** Detached EwasteRequest copy so existing views and PDF code can render archived rows. */
+    public EwasteRequest toRequest() {
+        EwasteRequest request = new EwasteRequest();
+        request.setId(id);
+        request.setUser(user);
+        request.setDeviceType(deviceType);
+        request.setBrand(brand);
+        request.setModel(model);
+        request.setConditionStatus(conditionStatus);
+        request.setQuantity(quantity);
+        request.setPickupAddress(pickupAddress);
+        request.setRemarks(remarks);
+        request.setStatus(status);
+        request.setRejectionReason(rejectionReason);
+        request.setAdminRemarks(adminRemarks);
+        request.setScheduledPickupDate(scheduledPickupDate);
+        request.setCompletedDate(completedDate);
+        request.setCollectedDate(collectedDate);
+        request.setCreatedAt(createdAt);
+        request.setUpdatedAt(updatedAt);
+        return request;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private static final long serialVersionUID = 1L;
+
+        private Long id;
+        private Integer closedMonth;
+    }
+}
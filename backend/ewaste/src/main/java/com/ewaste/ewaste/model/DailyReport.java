@@ -0,0 +1,62 @@
+package com.ewaste.ewaste.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * End-of-day report filed by a pickup person. One row per person per day; the job counts are
+ * filled in from the requests they closed that day rather than trusted from the client.
+ */
+@Entity
+@Table(name = "daily_reports",
+        uniqueConstraints = @UniqueConstraint(name = "uk_daily_report_person_date", columnNames = {"pickup_person_id", "report_date"}))
+@Data
+@NoArgsConstructor
+public class DailyReport {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "pickup_person_id", nullable = false)
+    private Long pickupPersonId;
+
+    @Column(name = "report_date", nullable = false)
+    private LocalDate reportDate;
+
+    private LocalTime startTime;
+    private LocalTime endTime;
+
+    // Requests now COMPLETED whose completedDate falls on reportDate
+    @Column(nullable = false)
+    private int completedJobs;
+
+    // Requests whose collectedDate falls on reportDate, whatever their status now
+    @Column(nullable = false)
+    private int collectedJobs;
+
+    // Quantity of the requests counted in completedJobs
+    @Column(nullable = false)
+    private int itemsHandled;
+
+    private Integer vehicleMileage;
+    private Double fuelCost;
+    private Double environmentalImpact;
+
+    @Column(columnDefinition = "TEXT")
+    private String issues;
+
+    @Column(columnDefinition = "TEXT")
+    private String notes;
+
+    @Column(nullable = false)
+    private String status = "SUBMITTED";
+
+    @Column(nullable = false)
+    private Instant submittedAt = Instant.now();
+}
@@ -5,8 +5,18 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.time.Instant;
 
+// The schema is owned by the Flyway migrations in db/migration; keep @Index in step with them
 @Entity
-@Table(name = "ewaste_requests")
+@Table(name = "ewaste_requests",
+        indexes = {
+                @Index(name = "idx_request_user_created", columnList = "user_id, created_at"),
+                @Index(name = "idx_request_assignee_status", columnList = "assigned_pickup_person_id, status"),
+                @Index(name = "idx_request_assignee_completed", columnList = "assigned_pickup_person_id, completed_date"),
+                @Index(name = "idx_request_assignee_collected", columnList = "assigned_pickup_person_id, collected_date"),
+                @Index(name = "idx_request_status_created", columnList = "status, created_at"),
+                @Index(name = "idx_request_status_completed", columnList = "status, completed_date"),
+                @Index(name = "idx_request_status_updated", columnList = "status, updated_at")
+        })
 @Data
 @NoArgsConstructor
 public class EwasteRequest {
@@ -30,10 +40,6 @@ public class EwasteRequest {
     @Column(nullable = false)
     private int quantity;
 
-    // FIX: Changed to TEXT to allow unlimited image URLs
-    @Column(columnDefinition = "TEXT")
-    private String imageUrls;
-
     @Column(nullable = false)
     private String pickupAddress;
 
@@ -47,6 +53,8 @@ public class EwasteRequest {
     private String adminRemarks;
     private Instant scheduledPickupDate;
     private Instant completedDate;
+    // When the pickup person marked it COLLECTED; counted by the daily report
+    private Instant collectedDate;
 
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assigned_pickup_person_id")
@@ -4,12 +4,17 @@ import com.fasterxml.jackson.annotation.JsonIgnore; // Import this
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.Instant;
 import java.util.List;
 
 @Entity
-@Table(name = "pickup_persons")
+@Table(name = "pickup_persons",
+        indexes = @Index(name = "idx_pickup_person_available", columnList = "is_available"))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "pickupPersons")
 @Data
 @NoArgsConstructor
 public class PickupPerson {
@@ -0,0 +1,52 @@
+package com.ewaste.ewaste.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * One uploaded photo of a request, in upload order. Rows are keyed by the request id only, so
+ * they stay valid when the request moves to the archive. Hash, size and dimensions are null for
+ * images backfilled from the old comma-separated image_urls column (V3 migration).
+ */
+@Entity
+@Table(name = "request_images",
+        uniqueConstraints = @UniqueConstraint(name = "uk_request_image_order", columnNames = {"request_id", "sort_order"}),
+        indexes = @Index(name = "idx_request_image_hash", columnList = "content_hash"))
+@Data
+@NoArgsConstructor
+public class RequestImage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "request_id", nullable = false)
+    private Long requestId;
+
+    @Column(nullable = false)
+    private int sortOrder;
+
+    @Column(nullable = false, length = 512)
+    private String url;
+
+    // Hex SHA-256 of the original upload
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    private Long sizeBytes;
+    private Integer width;
+    private Integer height;
+    private String contentType;
+
+    @Column(length = 512)
+    private String thumbnailUrl;
+
+    @Column(length = 512)
+    private String mediumUrl;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt = Instant.now();
+}
@@ -8,13 +8,17 @@ import java.time.LocalDateTime;
 @Entity
 @Data
 @NoArgsConstructor
-@Table(name = "support_queries")
+@Table(name = "support_queries",
+        indexes = {
+                @Index(name = "idx_support_user_created", columnList = "user_id, created_at"),
+                @Index(name = "idx_support_status_created", columnList = "status, created_at")
+        })
 public class SupportQuery {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user; // Links the query to the logged-in user
 
@@ -0,0 +1,57 @@
+package com.ewaste.ewaste.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Background removal of one user account. DELETE removes the user and everything they own;
+ * ANONYMIZE keeps their requests (and so the recycling statistics) but scrubs personal data
+ * and disables the login. Progress counters are updated after every batch.
+ * heartbeatAt is refreshed while an instance holds the job; see UserDeletionService.reclaimStaleJobs.
+ */
+@Entity
+@Table(name = "user_deletion_jobs", indexes = @Index(name = "idx_deletion_job_user", columnList = "user_id"))
+@Data
+@NoArgsConstructor
+public class UserDeletionJob {
+
+    public enum Mode { DELETE, ANONYMIZE }
+
+    public enum Status { QUEUED, RUNNING, COMPLETED, FAILED }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Mode mode;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status = Status.QUEUED;
+
+    private long requestsTotal;
+    private long requestsProcessed;
+    private long ticketsProcessed;
+    private long filesDeleted;
+
+    private String error;
+
+    @Column(nullable = false, updatable = false)
+    private Instant createdAt = Instant.now();
+    private Instant startedAt;
+    private Instant finishedAt;
+
+    @Column(nullable = false)
+    private Instant heartbeatAt = Instant.now();
+
+    @PreUpdate
+    protected void onUpdate() { heartbeatAt = Instant.now(); }
+}
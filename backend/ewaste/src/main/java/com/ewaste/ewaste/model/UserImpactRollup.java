@@ -0,0 +1,40 @@
+package com.ewaste.ewaste.model;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Pre-aggregated impact of one user's recycled (COLLECTED/COMPLETED) requests for one
+ * calendar month (UTC), so impact pages read a handful of rows instead of the whole history.
+ */
+@Entity
+@Table(name = "user_impact_rollups",
+        uniqueConstraints = @UniqueConstraint(name = "uk_impact_user_period", columnNames = {"user_id", "period_month"}))
+@Data
+@NoArgsConstructor
+public class UserImpactRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    // yyyyMM, e.g. 202610
+    @Column(name = "period_month", nullable = false)
+    private int periodMonth;
+
+    @Column(nullable = false)
+    private long requests;
+
+    @Column(nullable = false)
+    private long items;
+
+    @Column(name = "weight_kg", nullable = false)
+    private double weightKg;
+
+    @Column(name = "co2_kg", nullable = false)
+    private double co2Kg;
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.ewaste.ewaste.repository;
+
+import com.ewaste.ewaste.dto.RequestStats;
+import com.ewaste.ewaste.model.ArchivedRequest;
+import com.ewaste.ewaste.model.RequestStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface ArchivedRequestRepository extends JpaRepository<ArchivedRequest, ArchivedRequest.Key> {
+
+    @Query("SELECT a FROM ArchivedRequest a JOIN FETCH a.user WHERE a.user.id = :userId ORDER BY a.createdAt DESC")
+    List<ArchivedRequest> findByUserIdOrderByCreatedAtDesc(@Param("userId") Long userId);
+
+    // Ids are unique across partitions; this scans every partition, which is fine for single lookups
+    @Query("SELECT a FROM ArchivedRequest a JOIN FETCH a.user WHERE a.id = :id")
+    Optional<ArchivedRequest> findByRequestId(@Param("id") Long id);
+
+    boolean existsByIdAndUser_Email(Long id, String email);
+
+    long countByUserId(Long userId);
+    long countByUserIdAndStatus(Long userId, RequestStatus status);
+    long countByAssignedPickupPersonId(Long pickupPersonId);
+
+    @Query("SELECT a.status as status, COUNT(a) as count FROM ArchivedRequest a GROUP BY a.status")
+    List<Map<String, Object>> countRequestsByStatus();
+
+    @Query("SELECT new com.ewaste.ewaste.dto.RequestStats(a.status, COUNT(a)) " +
+            "FROM ArchivedRequest a WHERE a.user.id = :userId GROUP BY a.status")
+    List<RequestStats> countUserRequestsByStatus(@Param("userId") Long userId);
+
+    @Query("SELECT a.deviceType as device, COUNT(a) as count FROM ArchivedRequest a GROUP BY a.deviceType")
+    List<Map<String, Object>> countRequestsByDeviceType();
+
+    // Same row shape as EwasteRequestRepository.aggregateByUserMonthAndDevice
+    @Query("SELECT a.user.id, a.deviceType, YEAR(COALESCE(a.collectedDate, a.completedDate, a.updatedAt)), " +
+            "MONTH(COALESCE(a.collectedDate, a.completedDate, a.updatedAt)), COUNT(a), SUM(a.quantity) " +
+            "FROM ArchivedRequest a WHERE a.status IN :statuses " +
+            "GROUP BY a.user.id, a.deviceType, YEAR(COALESCE(a.collectedDate, a.completedDate, a.updatedAt)), " +
+            "MONTH(COALESCE(a.collectedDate, a.completedDate, a.updatedAt))")
+    List<Object[]> aggregateByUserMonthAndDevice(@Param("statuses") Collection<RequestStatus> statuses);
+}
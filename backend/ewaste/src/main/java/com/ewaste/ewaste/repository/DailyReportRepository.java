@@ -0,0 +1,21 @@
+package com.ewaste.ewaste.repository;
+
+import com.ewaste.ewaste.model.DailyReport;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Optional;
+
+public interface DailyReportRepository extends JpaRepository<DailyReport, Long> {
+    Optional<DailyReport> findByPickupPersonIdAndReportDate(Long pickupPersonId, LocalDate reportDate);
+    Page<DailyReport> findByPickupPersonIdOrderByReportDateDesc(Long pickupPersonId, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM DailyReport d WHERE d.pickupPersonId = :pickupPersonId")
+    int deleteByPickupPersonId(@Param("pickupPersonId") Long pickupPersonId);
+}
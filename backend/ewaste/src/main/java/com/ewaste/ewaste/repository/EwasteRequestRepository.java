@@ -1,20 +1,92 @@
 package com.ewaste.ewaste.repository;
 
+import com.ewaste.ewaste.dto.AdminRequestView;
+import com.ewaste.ewaste.dto.DailyJobCounts;
 import com.ewaste.ewaste.dto.RequestStats;
 import com.ewaste.ewaste.model.EwasteRequest;
 import com.ewaste.ewaste.model.RequestStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface EwasteRequestRepository extends JpaRepository<EwasteRequest, Long> {
+
+    String COMPLETED_PICKUP_FILTER =
+            "WHERE status = 'COMPLETED' AND completed_date >= :from AND completed_date < :to " +
+            "AND scheduled_pickup_date IS NOT NULL AND assigned_pickup_person_id IS NOT NULL";
+
+    // Completed pickups in [:from, :to) as (pid, scheduled_pickup_date, completed_date). Includes
+    // the archive: RequestArchiveService moves them there after app.archive.after-days, which is
+    // shorter than the longest performance period.
+    String COMPLETED_PICKUPS =
+            "SELECT assigned_pickup_person_id AS pid, scheduled_pickup_date, completed_date " +
+            "FROM ewaste_requests " + COMPLETED_PICKUP_FILTER + " UNION ALL " +
+            "SELECT assigned_pickup_person_id, scheduled_pickup_date, completed_date " +
+            "FROM ewaste_requests_archive " + COMPLETED_PICKUP_FILTER;
+
+    // Completed pickups with their turnaround in seconds and its cumulative distribution per
+    // pickup person, so p90 is the smallest turnaround with cd >= 0.9
+    String TURNAROUND_ROWS =
+            "SELECT c.pid, TIMESTAMPDIFF(SECOND, c.scheduled_pickup_date, c.completed_date) AS secs, " +
+            "CUME_DIST() OVER (PARTITION BY c.pid " +
+            "ORDER BY TIMESTAMPDIFF(SECOND, c.scheduled_pickup_date, c.completed_date)) AS cd " +
+            "FROM (" + COMPLETED_PICKUPS + ") c";
+
+    // Rows of [pickupPersonId, name, completed, avgSeconds, onTimeCount, p90Seconds]
+    String PERFORMANCE_SELECT =
+            "SELECT p.id, u.name, COUNT(t.secs), AVG(t.secs), " +
+            "COALESCE(SUM(CASE WHEN t.secs <= :graceSeconds THEN 1 ELSE 0 END), 0), " +
+            "MIN(CASE WHEN t.cd >= 0.9 THEN t.secs END) " +
+            "FROM pickup_persons p JOIN users u ON u.id = p.user_id ";
+
     List<EwasteRequest> findByUserId(Long userId);
     List<EwasteRequest> findByUserIdOrderByCreatedAtDesc(Long userId);
-    List<EwasteRequest> findByAssignedPickupPersonId(Long pickupPersonId);
-    List<EwasteRequest> findAllByOrderByCreatedAtDesc();
 
+    // With customers fetched, so callers can read them after the transaction has ended
+    @Query("SELECT e FROM EwasteRequest e JOIN FETCH e.user " +
+            "JOIN FETCH e.assignedPickupPerson p JOIN FETCH p.user WHERE p.id = :pickupPersonId")
+    List<EwasteRequest> findByAssignedPickupPersonId(@Param("pickupPersonId") Long pickupPersonId);
+
+    // One request and its owner, for flows that mail or print the customer's details outside a transaction
+    @Query("SELECT e FROM EwasteRequest e JOIN FETCH e.user WHERE e.id = :id")
+    Optional<EwasteRequest> findWithUserById(@Param("id") Long id);
+
+    // SELECT ... FOR UPDATE on the request row only (no join, so the owner's row is not locked)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM EwasteRequest e WHERE e.id = :id")
+    Optional<EwasteRequest> findByIdForUpdate(@Param("id") Long id);
+
+    // The admin list as DTO rows in one query, read in fetch-size chunks while the response is
+    // written (a server-side cursor on MySQL needs useCursorFetch=true). Close the stream.
+    @Query("SELECT new com.ewaste.ewaste.dto.AdminRequestView(e.id, e.deviceType, e.brand, e.model, " +
+            "e.conditionStatus, e.quantity, e.pickupAddress, e.remarks, e.status, e.createdAt, e.rejectionReason, " +
+            "u.id, u.email, u.name, u.phoneNumber, u.address, pu.name, e.scheduledPickupDate) " +
+            "FROM EwasteRequest e JOIN e.user u LEFT JOIN e.assignedPickupPerson p LEFT JOIN p.user pu " +
+            "ORDER BY e.createdAt DESC")
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<AdminRequestView> streamAdminViews();
+
+    // True for the request's owner and its assigned pickup person
+    @Query("SELECT COUNT(e) > 0 FROM EwasteRequest e LEFT JOIN e.assignedPickupPerson p LEFT JOIN p.user pu " +
+            "WHERE e.id = :id AND (e.user.email = :email OR pu.email = :email)")
+    boolean isVisibleTo(@Param("id") Long id, @Param("email") String email);
+
+    long countByUserId(Long userId);
     long countByUserIdAndStatus(Long userId, RequestStatus status);
 
     @Query("SELECT e.status as status, COUNT(e) as count FROM EwasteRequest e GROUP BY e.status")
@@ -27,4 +99,71 @@ public interface EwasteRequestRepository extends JpaRepository<EwasteRequest, Lo
 
     @Query("SELECT e.deviceType as device, COUNT(e) as count FROM EwasteRequest e GROUP BY e.deviceType")
     List<Map<String, Object>> countRequestsByDeviceType();
+
+    // Rows of [userId, deviceType, year, month, requestCount, itemCount], used to rebuild impact rollups
+    @Query("SELECT e.user.id, e.deviceType, YEAR(COALESCE(e.collectedDate, e.completedDate, e.updatedAt)), " +
+            "MONTH(COALESCE(e.collectedDate, e.completedDate, e.updatedAt)), COUNT(e), SUM(e.quantity) " +
+            "FROM EwasteRequest e WHERE e.status IN :statuses " +
+            "GROUP BY e.user.id, e.deviceType, YEAR(COALESCE(e.collectedDate, e.completedDate, e.updatedAt)), " +
+            "MONTH(COALESCE(e.collectedDate, e.completedDate, e.updatedAt))")
+    List<Object[]> aggregateByUserMonthAndDevice(@Param("statuses") Collection<RequestStatus> statuses);
+
+    // Single aggregate over the requests a pickup person completed or collected in [from, to), used
+    // for daily reports. Items are those of the requests counted as completed (same predicate).
+    @Query("SELECT new com.ewaste.ewaste.dto.DailyJobCounts(" +
+            "COALESCE(SUM(CASE WHEN e.status = com.ewaste.ewaste.model.RequestStatus.COMPLETED " +
+            "AND e.completedDate >= :from AND e.completedDate < :to THEN 1L ELSE 0L END), 0L), " +
+            "COALESCE(SUM(CASE WHEN e.collectedDate >= :from AND e.collectedDate < :to THEN 1L ELSE 0L END), 0L), " +
+            "COALESCE(SUM(CASE WHEN e.status = com.ewaste.ewaste.model.RequestStatus.COMPLETED " +
+            "AND e.completedDate >= :from AND e.completedDate < :to THEN e.quantity ELSE 0 END), 0L)) " +
+            "FROM EwasteRequest e WHERE e.assignedPickupPerson.id = :pickupPersonId " +
+            "AND ((e.completedDate >= :from AND e.completedDate < :to) " +
+            "OR (e.collectedDate >= :from AND e.collectedDate < :to))")
+    DailyJobCounts countClosedJobs(@Param("pickupPersonId") Long pickupPersonId,
+                                   @Param("from") Instant from,
+                                   @Param("to") Instant to);
+
+    long countByAssignedPickupPersonId(Long pickupPersonId);
+
+    @Query(value = PERFORMANCE_SELECT +
+            "LEFT JOIN (" + TURNAROUND_ROWS + " WHERE c.pid = :pickupPersonId) t ON t.pid = p.id " +
+            "WHERE p.id = :pickupPersonId GROUP BY p.id, u.name", nativeQuery = true)
+    List<Object[]> pickupPerformance(@Param("pickupPersonId") Long pickupPersonId,
+                                     @Param("from") Instant from,
+                                     @Param("to") Instant to,
+                                     @Param("graceSeconds") long graceSeconds);
+
+    @Query(value = PERFORMANCE_SELECT +
+            "LEFT JOIN (" + TURNAROUND_ROWS + ") t ON t.pid = p.id " +
+            "GROUP BY p.id, u.name", nativeQuery = true)
+    List<Object[]> pickupPerformanceForAll(@Param("from") Instant from,
+                                           @Param("to") Instant to,
+                                           @Param("graceSeconds") long graceSeconds);
+
+    // Rows of [day, completed, onTimeCount] for one pickup person, folded into weeks by the caller
+    @Query(value = "SELECT CAST(c.completed_date AS DATE), COUNT(*), " +
+            "SUM(CASE WHEN TIMESTAMPDIFF(SECOND, c.scheduled_pickup_date, c.completed_date) <= :graceSeconds THEN 1 ELSE 0 END) " +
+            "FROM (" + COMPLETED_PICKUPS + ") c WHERE c.pid = :pickupPersonId " +
+            "GROUP BY CAST(c.completed_date AS DATE)", nativeQuery = true)
+    List<Object[]> dailyCompletions(@Param("pickupPersonId") Long pickupPersonId,
+                                    @Param("from") Instant from,
+                                    @Param("to") Instant to,
+                                    @Param("graceSeconds") long graceSeconds);
+
+    // Detaches a pickup person from all their requests; still-SCHEDULED ones go back to APPROVED
+    // for rescheduling. scheduledPickupDate is assigned before status because MySQL applies SET
+    // clauses left to right.
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE EwasteRequest e SET " +
+            "e.scheduledPickupDate = CASE WHEN e.status = com.ewaste.ewaste.model.RequestStatus.SCHEDULED THEN NULL ELSE e.scheduledPickupDate END, " +
+            "e.status = CASE WHEN e.status = com.ewaste.ewaste.model.RequestStatus.SCHEDULED " +
+            "THEN com.ewaste.ewaste.model.RequestStatus.APPROVED ELSE e.status END, " +
+            "e.assignedPickupPerson = NULL, e.updatedAt = :now " +
+            "WHERE e.assignedPickupPerson.id = :pickupPersonId")
+    int unassignPickupPerson(@Param("pickupPersonId") Long pickupPersonId, @Param("now") Instant now);
+
+    // Loads a page of search hits with everything AdminRequestView reads, in one statement
+    @Query("SELECT e FROM EwasteRequest e JOIN FETCH e.user " +
+            "LEFT JOIN FETCH e.assignedPickupPerson p LEFT JOIN FETCH p.user WHERE e.id IN :ids")
+    List<EwasteRequest> findWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
 }
\ No newline at end of file
@@ -1,10 +1,39 @@
 // src/main/java/com/ewaste/ewaste/repository/PickupPersonRepository.java
 package com.ewaste.ewaste.repository;
 
+import com.ewaste.ewaste.dto.PickupPersonSummary;
 import com.ewaste.ewaste.model.PickupPerson;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
 import java.util.Optional;
 
 public interface PickupPersonRepository extends JpaRepository<PickupPerson, Long> {
+    // Both lookups run on every pickup-person request; results are cached until the table changes
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<PickupPerson> findByUserId(Long userId);
-}
\ No newline at end of file
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("SELECT p.id FROM PickupPerson p WHERE p.user.email = :email")
+    Optional<Long> findIdByUserEmail(@Param("email") String email);
+
+    // One grouped query for the admin list and the schedule picker; available = null lists everyone
+    @Query("SELECT new com.ewaste.ewaste.dto.PickupPersonSummary(p.id, u.id, u.name, u.email, u.phoneNumber, " +
+            "u.address, p.vehicleNumber, p.isAvailable, p.createdAt, " +
+            "COALESCE(SUM(CASE WHEN e.status = com.ewaste.ewaste.model.RequestStatus.SCHEDULED THEN 1L ELSE 0L END), 0L), " +
+            "COALESCE(SUM(CASE WHEN e.status = com.ewaste.ewaste.model.RequestStatus.COMPLETED THEN 1L ELSE 0L END), 0L)) " +
+            "FROM PickupPerson p JOIN p.user u LEFT JOIN p.assignedRequests e " +
+            "WHERE (:available IS NULL OR p.isAvailable = :available) " +
+            "GROUP BY p.id, u.id, u.name, u.email, u.phoneNumber, u.address, p.vehicleNumber, p.isAvailable, p.createdAt " +
+            "ORDER BY u.name")
+    List<PickupPersonSummary> findSummaries(@Param("available") Boolean available);
+
+    @Modifying
+    @Query("UPDATE PickupPerson p SET p.isAvailable = :available WHERE p.id = :id")
+    int updateAvailability(@Param("id") Long id, @Param("available") boolean available);
+}
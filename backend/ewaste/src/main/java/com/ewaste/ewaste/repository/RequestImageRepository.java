@@ -0,0 +1,33 @@
+package com.ewaste.ewaste.repository;
+
+import com.ewaste.ewaste.model.RequestImage;
+import com.ewaste.ewaste.model.RequestStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+// Inserts go through RequestImageService as one JDBC batch per request
+public interface RequestImageRepository extends JpaRepository<RequestImage, Long> {
+
+    List<RequestImage> findByRequestIdOrderBySortOrderAsc(Long requestId);
+
+    // Recent requests of one user whose photos are exactly these (as a set). Candidates come from
+    // idx_request_image_hash; a candidate with a photo outside the set, or missing one, is left out.
+    @Query("SELECT r.id FROM RequestImage i, EwasteRequest r " +
+            "WHERE r.id = i.requestId AND r.user.id = :userId AND r.deviceType = :deviceType " +
+            "AND r.status IN :statuses AND r.createdAt >= :since " +
+            "AND r.id IN (SELECT m.requestId FROM RequestImage m WHERE m.contentHash IN :hashes) " +
+            "GROUP BY r.id " +
+            "HAVING COUNT(DISTINCT i.contentHash) = :hashCount " +
+            "AND SUM(CASE WHEN i.contentHash IN :hashes THEN 0 ELSE 1 END) = 0 ORDER BY r.id")
+    List<Long> findRequestsWithSameImages(@Param("hashes") Collection<String> hashes,
+                                          @Param("hashCount") long hashCount,
+                                          @Param("userId") Long userId,
+                                          @Param("deviceType") String deviceType,
+                                          @Param("statuses") Collection<RequestStatus> statuses,
+                                          @Param("since") Instant since);
+}
@@ -0,0 +1,115 @@
+package com.ewaste.ewaste.repository;
+
+import com.ewaste.ewaste.config.FullTextIndexes;
+import lombok.Data;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Admin search over e-waste requests. The match set is built once per call from the FULLTEXT
+ * indexes (request text, plus customer name/email) on MySQL, or LIKE elsewhere, and shared by
+ * the facet, count and page-of-ids queries.
+ */
+@Repository
+@RequiredArgsConstructor
+public class RequestSearchRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final FullTextIndexes fullTextIndexes;
+
+    @Data
+    public static class Criteria {
+        private String text;
+        private String status;
+        private String deviceType;
+        private String conditionStatus;
+    }
+
+    public enum Facet {
+        STATUS("r.status"), DEVICE_TYPE("r.device_type"), CONDITION("r.condition_status");
+
+        private final String column;
+
+        Facet(String column) {
+            this.column = column;
+        }
+    }
+
+    // Rows of [value, count] for one facet over every match, ignoring the facet's own filter so
+    // that choosing a value still shows the counts of the others
+    public List<Object[]> facetCounts(Criteria criteria, Facet facet) {
+        Criteria others = new Criteria();
+        others.setText(criteria.getText());
+        others.setStatus(facet == Facet.STATUS ? null : criteria.getStatus());
+        others.setDeviceType(facet == Facet.DEVICE_TYPE ? null : criteria.getDeviceType());
+        others.setConditionStatus(facet == Facet.CONDITION ? null : criteria.getConditionStatus());
+
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = "SELECT " + facet.column + ", COUNT(*) " + fromWhere(others, params) + " GROUP BY " + facet.column;
+        return jdbcTemplate.query(sql, params, (rs, rowNum) -> new Object[]{rs.getString(1), rs.getLong(2)});
+    }
+
+    public long count(Criteria criteria) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        Long count = jdbcTemplate.queryForObject("SELECT COUNT(*) " + fromWhere(criteria, params), params, Long.class);
+        return count == null ? 0 : count;
+    }
+
+    // Newest first
+    public List<Long> findIds(Criteria criteria, int offset, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        String sql = "SELECT r.id " + fromWhere(criteria, params) +
+                " ORDER BY r.created_at DESC, r.id DESC LIMIT :limit OFFSET :offset";
+        params.addValue("limit", limit).addValue("offset", offset);
+        return jdbcTemplate.queryForList(sql, params, Long.class);
+    }
+
+    private String fromWhere(Criteria criteria, MapSqlParameterSource params) {
+        StringBuilder sql = new StringBuilder();
+        List<String> conditions = new ArrayList<>();
+
+        String booleanQuery = FullTextIndexes.toBooleanQuery(criteria.getText());
+        if (criteria.getText() == null) {
+            sql.append("FROM ewaste_requests r");
+        } else if (fullTextIndexes.isEnabled() && booleanQuery != null) {
+            // UNION keeps each MATCH on its own index instead of an OR that defeats both
+            sql.append("FROM ewaste_requests r JOIN (")
+                    .append("SELECT id FROM ewaste_requests ")
+                    .append("WHERE MATCH(brand, model, device_type, pickup_address, remarks) AGAINST (:text IN BOOLEAN MODE) ")
+                    .append("UNION SELECT e.id FROM ewaste_requests e JOIN users u ON u.id = e.user_id ")
+                    .append("WHERE MATCH(u.name, u.email) AGAINST (:text IN BOOLEAN MODE)")
+                    .append(") m ON m.id = r.id");
+            params.addValue("text", booleanQuery);
+        } else {
+            sql.append("FROM ewaste_requests r JOIN users u ON u.id = r.user_id");
+            conditions.add("(LOWER(r.brand) LIKE :pattern OR LOWER(r.model) LIKE :pattern " +
+                    "OR LOWER(r.device_type) LIKE :pattern OR LOWER(r.pickup_address) LIKE :pattern " +
+                    "OR LOWER(r.remarks) LIKE :pattern OR LOWER(u.name) LIKE :pattern OR LOWER(u.email) LIKE :pattern)");
+            params.addValue("pattern", "%" + criteria.getText().toLowerCase(Locale.ROOT) + "%");
+        }
+
+        if (criteria.getStatus() != null) {
+            conditions.add("r.status = :status");
+            params.addValue("status", criteria.getStatus());
+        }
+        if (criteria.getDeviceType() != null) {
+            conditions.add("r.device_type = :deviceType");
+            params.addValue("deviceType", criteria.getDeviceType());
+        }
+        if (criteria.getConditionStatus() != null) {
+            conditions.add("r.condition_status = :conditionStatus");
+            params.addValue("conditionStatus", criteria.getConditionStatus());
+        }
+
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        return sql.toString();
+    }
+}
@@ -1,14 +1,63 @@
 package com.ewaste.ewaste.repository;
 
+import com.ewaste.ewaste.dto.SupportTicketView;
 import com.ewaste.ewaste.model.SupportQuery;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
 import java.util.List;
 
 public interface SupportQueryRepository extends JpaRepository<SupportQuery, Long> {
 
-    // THIS IS THE MISSING METHOD CAUSING THE ERROR
-    List<SupportQuery> findByUser_EmailOrderByCreatedAtDesc(String email);
+    String VIEW_SELECT = "SELECT new com.ewaste.ewaste.dto.SupportTicketView(q.id, q.subject, q.category, " +
+            "q.description, q.status, q.relatedRequestId, q.adminReply, q.createdAt, q.resolvedAt, u.name, u.email) " +
+            "FROM SupportQuery q JOIN q.user u ";
+
+    String QUEUE_FILTER = "(:status IS NULL OR q.status = :status) AND (:category IS NULL OR q.category = :category)";
+
+    @Query(VIEW_SELECT + "WHERE u.email = :email ORDER BY q.createdAt DESC")
+    List<SupportTicketView> findViewsByUserEmail(@Param("email") String email);
+
+    @Query(VIEW_SELECT + "WHERE q.id = :id")
+    SupportTicketView findViewById(@Param("id") Long id);
+
+    @Query(VIEW_SELECT + "WHERE q.id IN :ids")
+    List<SupportTicketView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Rows of [status, count] over all tickets; an index-only scan of idx_support_status_created
+    @Query("SELECT q.status, COUNT(q) FROM SupportQuery q WHERE q.status IS NOT NULL GROUP BY q.status")
+    List<Object[]> countByStatus();
+
+    // Admin queue, served by idx_support_status_created
+    @Query(value = VIEW_SELECT + "WHERE " + QUEUE_FILTER,
+            countQuery = "SELECT COUNT(q) FROM SupportQuery q WHERE " + QUEUE_FILTER)
+    Page<SupportTicketView> findQueue(@Param("status") String status,
+                                      @Param("category") String category,
+                                      Pageable pageable);
+
+    // Fallback search when FULLTEXT is unavailable; :pattern is a lower-cased %term%
+    @Query(value = VIEW_SELECT + "WHERE " + QUEUE_FILTER + " AND (LOWER(q.subject) LIKE :pattern " +
+            "OR LOWER(q.description) LIKE :pattern OR LOWER(u.name) LIKE :pattern OR LOWER(u.email) LIKE :pattern)",
+            countQuery = "SELECT COUNT(q) FROM SupportQuery q JOIN q.user u WHERE " + QUEUE_FILTER +
+                    " AND (LOWER(q.subject) LIKE :pattern OR LOWER(q.description) LIKE :pattern " +
+                    "OR LOWER(u.name) LIKE :pattern OR LOWER(u.email) LIKE :pattern)")
+    Page<SupportTicketView> searchQueueByLike(@Param("status") String status,
+                                              @Param("category") String category,
+                                              @Param("pattern") String pattern,
+                                              Pageable pageable);
 
-    // Fetch all tickets for Admin review
-    List<SupportQuery> findAllByOrderByCreatedAtDesc();
-}
\ No newline at end of file
+    // MySQL only: ids of matching tickets via ft_support_subject_description (see FullTextIndexes)
+    @Query(value = "SELECT q.id FROM support_queries q " +
+            "WHERE MATCH(q.subject, q.description) AGAINST (:query IN BOOLEAN MODE) AND " + QUEUE_FILTER,
+            countQuery = "SELECT COUNT(*) FROM support_queries q " +
+                    "WHERE MATCH(q.subject, q.description) AGAINST (:query IN BOOLEAN MODE) AND " + QUEUE_FILTER,
+            nativeQuery = true)
+    Page<Long> searchQueueIds(@Param("query") String query,
+                              @Param("status") String status,
+                              @Param("category") String category,
+                              Pageable pageable);
+}
@@ -0,0 +1,31 @@
+package com.ewaste.ewaste.repository;
+
+import com.ewaste.ewaste.model.UserDeletionJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+public interface UserDeletionJobRepository extends JpaRepository<UserDeletionJob, Long> {
+    boolean existsByUserIdAndStatusIn(Long userId, Collection<UserDeletionJob.Status> statuses);
+
+    List<UserDeletionJob> findByStatusInAndHeartbeatAtBefore(Collection<UserDeletionJob.Status> statuses,
+                                                             Instant staleBefore);
+
+    @Modifying
+    @Query("UPDATE UserDeletionJob j SET j.heartbeatAt = :now WHERE j.id IN :ids")
+    int touch(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    // Conditional, so when several instances find the same stale job only one of them gets 1 back
+    @Modifying
+    @Query("UPDATE UserDeletionJob j SET j.heartbeatAt = :now " +
+            "WHERE j.id = :id AND j.status IN :statuses AND j.heartbeatAt < :staleBefore")
+    int claimStale(@Param("id") Long id,
+                   @Param("statuses") Collection<UserDeletionJob.Status> statuses,
+                   @Param("staleBefore") Instant staleBefore,
+                   @Param("now") Instant now);
+}
@@ -0,0 +1,55 @@
+package com.ewaste.ewaste.repository;
+
+import com.ewaste.ewaste.dto.LeaderboardEntry;
+import com.ewaste.ewaste.model.UserImpactRollup;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface UserImpactRollupRepository extends JpaRepository<UserImpactRollup, Long> {
+
+    List<UserImpactRollup> findByUserIdOrderByPeriodMonthAsc(Long userId);
+
+    // Single-statement upsert keyed on (user_id, period_month), safe under concurrent completions
+    @Modifying
+    @Query(value = "INSERT INTO user_impact_rollups (user_id, period_month, requests, items, weight_kg, co2_kg) " +
+            "VALUES (:userId, :periodMonth, :requests, :items, :weightKg, :co2Kg) " +
+            "ON DUPLICATE KEY UPDATE requests = requests + :requests, items = items + :items, " +
+            "weight_kg = weight_kg + :weightKg, co2_kg = co2_kg + :co2Kg", nativeQuery = true)
+    void addToRollup(@Param("userId") Long userId, @Param("periodMonth") int periodMonth,
+                     @Param("requests") long requests, @Param("items") long items,
+                     @Param("weightKg") double weightKg, @Param("co2Kg") double co2Kg);
+
+    // Undoes addToRollup when a request leaves COLLECTED/COMPLETED; never takes a row below zero
+    @Modifying
+    @Query(value = "UPDATE user_impact_rollups SET requests = requests - :requests, items = items - :items, " +
+            "weight_kg = weight_kg - :weightKg, co2_kg = co2_kg - :co2Kg " +
+            "WHERE user_id = :userId AND period_month = :periodMonth AND requests >= :requests", nativeQuery = true)
+    int removeFromRollup(@Param("userId") Long userId, @Param("periodMonth") int periodMonth,
+                         @Param("requests") long requests, @Param("items") long items,
+                         @Param("weightKg") double weightKg, @Param("co2Kg") double co2Kg);
+
+    // Drops a month that no longer counts any request, so the user leaves the participant count
+    @Modifying
+    @Query(value = "DELETE FROM user_impact_rollups " +
+            "WHERE user_id = :userId AND period_month = :periodMonth AND requests <= 0", nativeQuery = true)
+    int deleteEmpty(@Param("userId") Long userId, @Param("periodMonth") int periodMonth);
+
+    @Query("SELECT new com.ewaste.ewaste.dto.LeaderboardEntry(u.id, u.name, SUM(r.items), SUM(r.weightKg), SUM(r.co2Kg)) " +
+            "FROM UserImpactRollup r JOIN User u ON u.id = r.userId " +
+            "GROUP BY u.id, u.name ORDER BY SUM(r.co2Kg) DESC, u.id ASC")
+    List<LeaderboardEntry> findLeaderboard(Pageable pageable);
+
+    // Number of other users whose total CO2 saving beats the given total (the user's own row is
+    // left out, so summing in a different order than the caller can never count them as ahead)
+    @Query(value = "SELECT COUNT(*) FROM (SELECT user_id FROM user_impact_rollups WHERE user_id <> :userId " +
+            "GROUP BY user_id HAVING SUM(co2_kg) > :co2Kg) ahead", nativeQuery = true)
+    long countUsersAhead(@Param("userId") Long userId, @Param("co2Kg") double co2Kg);
+
+    @Query(value = "SELECT COUNT(DISTINCT user_id) FROM user_impact_rollups", nativeQuery = true)
+    long countParticipants();
+}
\ No newline at end of file
@@ -1,14 +1,54 @@
 // src/main/java/com/ewaste/ewaste/repository/UserRepository.java
 package com.ewaste.ewaste.repository;
 
+import com.ewaste.ewaste.dto.UserDirectoryEntry;
 import com.ewaste.ewaste.model.User;
 import com.ewaste.ewaste.model.Role;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import java.util.Collection;
 import java.util.Optional;
 import java.util.List;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+    // Runs on every authenticated request (JWT filter); served from the query and users caches
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByEmail(String email);
     Boolean existsByEmail(String email);
+    long countByEmailIn(Collection<String> emails);
     List<User> findByRole(Role role);
-}
\ No newline at end of file
+
+    // Re-hash on login without loading the entity again
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.email = :email")
+    int updatePassword(@Param("email") String email, @Param("password") String password);
+
+    String DIRECTORY_FILTER = "(:role IS NULL OR u.role = :role) AND (:status IS NULL OR u.status = :status) " +
+            "AND (:prefix IS NULL OR u.name LIKE :prefix ESCAPE '!' OR u.email LIKE :prefix ESCAPE '!')";
+
+    // The request count (live plus archived) is a pair of correlated subqueries, so it only runs
+    // for the rows on the page.
+    // :prefix is "term%" with ! escaping wildcards; matching relies on the column collation being
+    // case-insensitive (MySQL default) so the name and email indexes stay usable.
+    @Query(value = "SELECT new com.ewaste.ewaste.dto.UserDirectoryEntry(u.id, u.name, u.email, u.role, u.status, " +
+            "u.phoneNumber, u.address, u.createdAt, " +
+            "(SELECT COUNT(e) FROM EwasteRequest e WHERE e.user.id = u.id) + " +
+            "(SELECT COUNT(a) FROM ArchivedRequest a WHERE a.user.id = u.id)) " +
+            "FROM User u WHERE " + DIRECTORY_FILTER,
+            countQuery = "SELECT COUNT(u) FROM User u WHERE " + DIRECTORY_FILTER)
+    Page<UserDirectoryEntry> findDirectory(@Param("role") Role role,
+                                           @Param("status") String status,
+                                           @Param("prefix") String prefix,
+                                           Pageable pageable);
+
+    // Rows of [role, status, count]
+    @Query("SELECT u.role, u.status, COUNT(u) FROM User u GROUP BY u.role, u.status")
+    List<Object[]> countByRoleAndStatus();
+}
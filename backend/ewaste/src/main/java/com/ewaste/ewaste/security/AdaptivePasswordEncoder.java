@@ -0,0 +1,85 @@
+package com.ewaste.ewaste.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+/**
+ * BCrypt with a cost chosen for this machine. With app.security.bcrypt.strength=0 the cost is
+ * calibrated at startup: one hash at cost 10 is timed and the cost raised or lowered (each step
+ * doubles the work) until a hash takes about app.security.bcrypt.target-ms, within the min/max
+ * bounds. A fixed strength skips calibration.
+ *
+ * Hashes below the current cost report upgradeEncoding, so Spring Security re-hashes them on
+ * the next successful login (UserService.updatePassword). Every encode and match is timed as
+ * ewaste.password.hash.
+ */
+@Component
+public class AdaptivePasswordEncoder implements PasswordEncoder {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptivePasswordEncoder.class);
+
+    private static final int CALIBRATION_STRENGTH = 10;
+
+    private final BCryptPasswordEncoder delegate;
+    private final int strength;
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+
+    public AdaptivePasswordEncoder(MeterRegistry meterRegistry,
+                                   @Value("${app.security.bcrypt.strength:0}") int strength,
+                                   @Value("${app.security.bcrypt.target-ms:250}") long targetMillis,
+                                   @Value("${app.security.bcrypt.min-strength:10}") int minStrength,
+                                   @Value("${app.security.bcrypt.max-strength:14}") int maxStrength) {
+        this.strength = strength > 0 ? strength : calibrate(targetMillis, minStrength, maxStrength);
+        this.delegate = new BCryptPasswordEncoder(this.strength);
+        this.encodeTimer = Timer.builder("ewaste.password.hash")
+                .tag("operation", "encode")
+                .tag("strength", Integer.toString(this.strength))
+                .register(meterRegistry);
+        this.matchTimer = Timer.builder("ewaste.password.hash")
+                .tag("operation", "match")
+                .tag("strength", Integer.toString(this.strength))
+                .register(meterRegistry);
+    }
+
+    private static int calibrate(long targetMillis, int minStrength, int maxStrength) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(CALIBRATION_STRENGTH);
+        probe.encode("calibration"); // warm-up, so the timed run is not mostly JIT
+        long start = System.nanoTime();
+        probe.encode("calibration");
+        double millis = Math.max(1, (System.nanoTime() - start) / 1_000_000.0);
+
+        int steps = (int) Math.floor(Math.log(targetMillis / millis) / Math.log(2));
+        int chosen = Math.max(minStrength, Math.min(maxStrength, CALIBRATION_STRENGTH + steps));
+        logger.info("BCrypt cost {} hashes in {} ms here; using cost {} for a {} ms target",
+                CALIBRATION_STRENGTH, Math.round(millis), chosen, targetMillis);
+        return chosen;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return encodeTimer.record(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        Boolean matched = matchTimer.record(() -> delegate.matches(rawPassword, encodedPassword));
+        return Boolean.TRUE.equals(matched);
+    }
+
+    // True for hashes below the current cost; never downgrades stronger hashes
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+}
@@ -1,14 +1,18 @@
 package com.ewaste.ewaste.security;
 
 import com.ewaste.ewaste.service.UserService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -17,16 +21,25 @@ import org.springframework.stereotype.Component; // Import this
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
 
 @Component // <--- THIS WAS MISSING
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider tokenProvider;
     private final UserService userService;
+    private final MeterRegistry meterRegistry;
+    private final byte[] scrapeToken;
+    private static final String PROMETHEUS_PATH = "/actuator/prometheus";
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
-    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, UserService userService) {
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, UserService userService, MeterRegistry meterRegistry,
+                                   @Value("${app.metrics.scrape-token:}") String scrapeToken) {
         this.tokenProvider = tokenProvider;
         this.userService = userService;
+        this.meterRegistry = meterRegistry;
+        this.scrapeToken = scrapeToken.getBytes(StandardCharsets.UTF_8);
     }
 
     @Override
@@ -35,12 +48,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                     @NonNull FilterChain filterChain)
             throws ServletException, IOException {
 
-        final String requestURI = request.getRequestURI();
+        // Time spent authenticating, excluding the rest of the chain
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "anonymous";
 
         try {
             String jwt = parseJwt(request);
 
-            if (jwt != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            if (jwt != null && isScrapeToken(request, jwt)) {
+                // Prometheus has no user account; its static token only opens the metrics endpoint
+                SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                        "prometheus", null, List.of(new SimpleGrantedAuthority("ROLE_METRICS"))));
+                outcome = "scrape";
+            } else if (jwt != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+                outcome = "invalid";
                 if (tokenProvider.validateJwtToken(jwt)) {
                     String email = tokenProvider.getUserNameFromJwtToken(jwt);
                     try {
@@ -49,18 +70,27 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                                 userDetails, null, userDetails.getAuthorities());
                         authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                         SecurityContextHolder.getContext().setAuthentication(authentication);
+                        outcome = "authenticated";
                     } catch (UsernameNotFoundException e) {
                         logger.error("User not found for email {} from valid token.", email);
                     }
                 }
             }
         } catch (Exception e) {
+            outcome = "error";
             logger.error("Cannot set user authentication: {}", e.getMessage());
         }
+        sample.stop(meterRegistry.timer("ewaste.jwt.filter", "outcome", outcome));
 
         filterChain.doFilter(request, response);
     }
 
+    private boolean isScrapeToken(HttpServletRequest request, String token) {
+        return scrapeToken.length > 0
+                && PROMETHEUS_PATH.equals(request.getServletPath())
+                && MessageDigest.isEqual(scrapeToken, token.getBytes(StandardCharsets.UTF_8));
+    }
+
     private String parseJwt(HttpServletRequest request) {
         String headerAuth = request.getHeader("Authorization");
         if (StringUtils.hasText(headerAuth) && headerAuth.startsWith("Bearer ")) {
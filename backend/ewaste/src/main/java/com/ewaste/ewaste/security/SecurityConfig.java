@@ -1,5 +1,6 @@
 package com.ewaste.ewaste.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -33,10 +34,19 @@ public class SecurityConfig {
                 .exceptionHandling(ex -> ex.authenticationEntryPoint(unauthorizedHandler))
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // Streamed responses (StreamingResponseBody) finish in an ASYNC dispatch. The
+                        // REQUEST dispatch was already authorized, and with stateless sessions the
+                        // async one has no authentication left to check
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // UPDATED: Added "/error" to permitAll list
                         .requestMatchers("/api/auth/**", "/uploads/**", "/error").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
+                        // Scraped with app.metrics.scrape-token (JwtAuthenticationFilter) or an admin login
+                        .requestMatchers("/actuator/prometheus").hasAnyRole("ADMIN", "METRICS")
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/api/support/admin/**").hasRole("ADMIN")
                         .requestMatchers("/api/pickup/**").hasRole("PICKUP_PERSON")
+                        .requestMatchers("/api/reports/**").hasRole("PICKUP_PERSON")
                         .anyRequest().authenticated()
                 );
 
@@ -56,6 +66,7 @@ public class SecurityConfig {
 
         configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
+        configuration.setExposedHeaders(List.of("Retry-After", "Idempotent-Replayed"));
         configuration.setAllowCredentials(true);
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
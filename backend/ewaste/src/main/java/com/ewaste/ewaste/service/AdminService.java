@@ -2,16 +2,27 @@
 package com.ewaste.ewaste.service;
 
 import com.ewaste.ewaste.dto.PickupPersonRegister;
+import com.ewaste.ewaste.dto.PickupPersonSummary;
+import com.ewaste.ewaste.dto.PickupPersonUpdate;
+import com.ewaste.ewaste.dto.UserDirectoryEntry;
 import com.ewaste.ewaste.model.*;
+import com.ewaste.ewaste.repository.DailyReportRepository;
 import com.ewaste.ewaste.repository.EwasteRequestRepository;
 import com.ewaste.ewaste.repository.PickupPersonRepository;
 import com.ewaste.ewaste.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -20,8 +31,13 @@ public class AdminService {
     private final UserRepository userRepository;
     private final PickupPersonRepository pickupPersonRepository;
     private final EwasteRequestRepository ewasteRequestRepository;
+    private final DailyReportRepository dailyReportRepository;
+    private final UserDeletionService userDeletionService;
     private final PasswordEncoder passwordEncoder;
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Set<String> DIRECTORY_SORTS = Set.of("name", "email", "createdAt");
+
     @Transactional
     public User registerPickupPerson(PickupPersonRegister dto) {
         if (userRepository.existsByEmail(dto.getEmail())) {
@@ -72,12 +88,92 @@ public class AdminService {
         return ewasteRequestRepository.findAll();
     }
 
-    public List<PickupPerson> getAllPickupPersons() {
-        return pickupPersonRepository.findAll();
+    @Transactional(readOnly = true)
+    public List<PickupPersonSummary> getPickupPersonSummaries(Boolean available) {
+        return pickupPersonRepository.findSummaries(available);
+    }
+
+    @CacheEvict(cacheNames = "userProfiles", allEntries = true)
+    @Transactional
+    public PickupPerson updatePickupPerson(Long pickupPersonId, PickupPersonUpdate dto) {
+        PickupPerson pickupPerson = pickupPersonRepository.findById(pickupPersonId)
+                .orElseThrow(() -> new RuntimeException("Pickup person not found"));
+        User user = pickupPerson.getUser();
+
+        if (dto.getEmail() != null && !dto.getEmail().equalsIgnoreCase(user.getEmail())) {
+            if (userRepository.existsByEmail(dto.getEmail())) {
+                throw new RuntimeException("Email is already in use");
+            }
+            user.setEmail(dto.getEmail());
+        }
+        if (dto.getName() != null) user.setName(dto.getName());
+        if (dto.getPhoneNumber() != null) user.setPhoneNumber(dto.getPhoneNumber());
+        if (dto.getAddress() != null) user.setAddress(dto.getAddress());
+        if (dto.getVehicleNumber() != null) pickupPerson.setVehicleNumber(dto.getVehicleNumber());
+        if (dto.getAvailable() != null) pickupPerson.setAvailable(dto.getAvailable());
+
+        return pickupPersonRepository.save(pickupPerson);
+    }
+
+    @Transactional
+    public void updatePickupPersonAvailability(Long pickupPersonId, boolean available) {
+        if (pickupPersonRepository.updateAvailability(pickupPersonId, available) == 0) {
+            throw new RuntimeException("Pickup person not found");
+        }
+    }
+
+    // Returns their open assignments to APPROVED and drops their daily reports, then removes the
+    // account like any other user (UserDeletionService: requests, archive, photos, tickets, rollups)
+    @CacheEvict(cacheNames = "userProfiles", allEntries = true)
+    @Transactional
+    public UserDeletionJob deletePickupPerson(Long pickupPersonId, UserDeletionJob.Mode mode) {
+        PickupPerson pickupPerson = pickupPersonRepository.findById(pickupPersonId)
+                .orElseThrow(() -> new RuntimeException("Pickup person not found"));
+        ewasteRequestRepository.unassignPickupPerson(pickupPersonId, Instant.now());
+        dailyReportRepository.deleteByPickupPersonId(pickupPersonId);
+        return userDeletionService.startJob(pickupPerson.getUser().getId(), mode);
     }
 
     // --- NEW METHODS FOR USER MANAGEMENT ---
 
+    @Transactional(readOnly = true)
+    public Page<UserDirectoryEntry> getUserDirectory(String role, String status, String search,
+                                                     String sort, int page, int size) {
+        Role roleFilter = role == null || role.isBlank() || role.equalsIgnoreCase("ALL") ? null
+                : Role.valueOf(role.toUpperCase().startsWith("ROLE_") ? role.toUpperCase() : "ROLE_" + role.toUpperCase());
+        String statusFilter = status == null || status.isBlank() || status.equalsIgnoreCase("ALL") ? null : status.toUpperCase();
+        String prefix = search == null || search.isBlank() ? null
+                : search.trim().replace("!", "!!").replace("%", "!%").replace("_", "!_") + "%";
+        String sortProperty = DIRECTORY_SORTS.contains(sort) ? sort : "name";
+
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE),
+                Sort.by(sortProperty.equals("createdAt") ? Sort.Direction.DESC : Sort.Direction.ASC, sortProperty)
+                        .and(Sort.by("id")));
+        return userRepository.findDirectory(roleFilter, statusFilter, prefix, pageRequest);
+    }
+
+    // Totals for the directory header: overall, active, and per role
+    @Transactional(readOnly = true)
+    public Map<String, Long> getUserSummary() {
+        Map<String, Long> summary = new LinkedHashMap<>();
+        summary.put("total", 0L);
+        summary.put("active", 0L);
+        for (Role role : Role.values()) {
+            summary.put(role.name(), 0L);
+        }
+        for (Object[] row : userRepository.countByRoleAndStatus()) {
+            long count = (Long) row[2];
+            summary.merge("total", count, Long::sum);
+            if ("ACTIVE".equals(row[1])) {
+                summary.merge("active", count, Long::sum);
+            }
+            if (row[0] != null) {
+                summary.merge(((Role) row[0]).name(), count, Long::sum);
+            }
+        }
+        return summary;
+    }
+
     @Transactional
     public void updateUserStatus(Long userId, String status) {
         User user = userRepository.findById(userId)
@@ -86,6 +182,7 @@ public class AdminService {
         userRepository.save(user);
     }
 
+    @CacheEvict(cacheNames = "userProfiles", allEntries = true)
     @Transactional
     public User updateUser(Long userId, Map<String, Object> updates) {
         User user = userRepository.findById(userId)
@@ -2,9 +2,11 @@ package com.ewaste.ewaste.service;
 
 import com.ewaste.ewaste.model.RequestStatus;
 import com.ewaste.ewaste.model.User;
+import com.ewaste.ewaste.repository.ArchivedRequestRepository;
 import com.ewaste.ewaste.repository.EwasteRequestRepository;
 import com.ewaste.ewaste.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayInputStream;
@@ -17,6 +19,8 @@ public class CertificateService {
 
     private final UserRepository userRepository;
     private final EwasteRequestRepository ewasteRequestRepository;
+    private final ArchivedRequestRepository archivedRequestRepository;
+    @Lazy
     private final PdfGenerationService pdfGenerationService;
 
     private static final int REQUIRED_SUBMISSIONS = 10;
@@ -30,7 +34,8 @@ public class CertificateService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
         // Sum up both COMPLETED and COLLECTED requests
-        long completedCount = ewasteRequestRepository.countByUserIdAndStatus(user.getId(), RequestStatus.COMPLETED);
+        long completedCount = ewasteRequestRepository.countByUserIdAndStatus(user.getId(), RequestStatus.COMPLETED)
+                + archivedRequestRepository.countByUserIdAndStatus(user.getId(), RequestStatus.COMPLETED);
         long collectedCount = ewasteRequestRepository.countByUserIdAndStatus(user.getId(), RequestStatus.COLLECTED);
 
         long totalQualified = completedCount + collectedCount;
@@ -49,7 +54,8 @@ public class CertificateService {
                 .orElseThrow(() -> new RuntimeException("User not found"));
 
         // Same logic for generation to prevent unauthorized downloads
-        long completedCount = ewasteRequestRepository.countByUserIdAndStatus(user.getId(), RequestStatus.COMPLETED);
+        long completedCount = ewasteRequestRepository.countByUserIdAndStatus(user.getId(), RequestStatus.COMPLETED)
+                + archivedRequestRepository.countByUserIdAndStatus(user.getId(), RequestStatus.COMPLETED);
         long collectedCount = ewasteRequestRepository.countByUserIdAndStatus(user.getId(), RequestStatus.COLLECTED);
 
         long totalQualified = completedCount + collectedCount;
@@ -0,0 +1,96 @@
+package com.ewaste.ewaste.service;
+
+import com.ewaste.ewaste.dto.DailyJobCounts;
+import com.ewaste.ewaste.dto.DailyReportSubmit;
+import com.ewaste.ewaste.dto.DailyReportView;
+import com.ewaste.ewaste.model.DailyReport;
+import com.ewaste.ewaste.repository.DailyReportRepository;
+import com.ewaste.ewaste.repository.EwasteRequestRepository;
+import com.ewaste.ewaste.repository.PickupPersonRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+@Service
+@RequiredArgsConstructor
+public class DailyReportService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final DailyReportRepository dailyReportRepository;
+    private final PickupPersonRepository pickupPersonRepository;
+    private final EwasteRequestRepository ewasteRequestRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private Long getPickupPersonId(String email) {
+        return pickupPersonRepository.findIdByUserEmail(email)
+                .orElseThrow(() -> new RuntimeException("Pickup person profile not found"));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<DailyReportView> getMyReports(String email, int page, int size) {
+        Long pickupPersonId = getPickupPersonId(email);
+        PageRequest pageRequest = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        return dailyReportRepository.findByPickupPersonIdOrderByReportDateDesc(pickupPersonId, pageRequest)
+                .map(DailyReportView::fromEntity);
+    }
+
+    /**
+     * Files (or re-files) the report for one day. The job counts come from a single aggregate
+     * over that day's completed and collected requests, so the statement count does not grow with
+     * the workload. Two submissions for the same day at once both find no report; the one that
+     * loses on uk_daily_report_person_date is retried and updates the winner's row.
+     */
+    public DailyReportView submitReport(String email, DailyReportSubmit submit) {
+        try {
+            return transactionTemplate.execute(status -> saveReport(email, submit));
+        } catch (DataIntegrityViolationException e) {
+            return transactionTemplate.execute(status -> saveReport(email, submit));
+        }
+    }
+
+    private DailyReportView saveReport(String email, DailyReportSubmit submit) {
+        Long pickupPersonId = getPickupPersonId(email);
+
+        LocalDate date = submit.getDate() != null ? submit.getDate() : LocalDate.now();
+        if (date.isAfter(LocalDate.now())) {
+            throw new RuntimeException("Cannot submit a report for a future date");
+        }
+        if (submit.getStartTime() != null && submit.getEndTime() != null
+                && submit.getEndTime().isBefore(submit.getStartTime())) {
+            throw new RuntimeException("End time must be after start time");
+        }
+
+        ZoneId zone = ZoneId.systemDefault();
+        Instant from = date.atStartOfDay(zone).toInstant();
+        Instant to = date.plusDays(1).atStartOfDay(zone).toInstant();
+        DailyJobCounts counts = ewasteRequestRepository.countClosedJobs(pickupPersonId, from, to);
+
+        DailyReport report = dailyReportRepository.findByPickupPersonIdAndReportDate(pickupPersonId, date)
+                .orElseGet(DailyReport::new);
+        report.setPickupPersonId(pickupPersonId);
+        report.setReportDate(date);
+        report.setStartTime(submit.getStartTime());
+        report.setEndTime(submit.getEndTime());
+        report.setCompletedJobs(counts.getCompleted().intValue());
+        report.setCollectedJobs(counts.getCollected().intValue());
+        report.setItemsHandled(counts.getItems().intValue());
+        report.setVehicleMileage(submit.getVehicleMileage());
+        report.setFuelCost(submit.getFuelCost());
+        report.setEnvironmentalImpact(submit.getEnvironmentalImpact());
+        report.setIssues(submit.getIssues());
+        report.setNotes(submit.getNotes());
+        report.setStatus("SUBMITTED");
+        report.setSubmittedAt(Instant.now());
+
+        return DailyReportView.fromEntity(dailyReportRepository.saveAndFlush(report));
+    }
+}
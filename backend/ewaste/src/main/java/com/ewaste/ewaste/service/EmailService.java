@@ -1,16 +1,22 @@
 // backend/ewaste/src/main/java/com/ewaste/ewaste/service/EmailService.java
 package com.ewaste.ewaste.service;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
+// Created on the first mail rather than at startup; injection points are @Lazy as well
+@Lazy
 @Service
 @RequiredArgsConstructor
 public class EmailService {
 
     private final JavaMailSender mailSender;
+    private final MeterRegistry meterRegistry;
 
     public void sendOtpEmail(String toEmail, String otp, String userName) {
         SimpleMailMessage message = new SimpleMailMessage();
@@ -23,7 +29,7 @@ public class EmailService {
                 "If you did not request this, please ignore this email.\n\n" +
                 "Regards,\nSmart e-Waste Collection Team");
 
-        mailSender.send(message);
+        send("otp", message);
     }
 
     // Send email to Customer when Admin approves
@@ -41,7 +47,7 @@ public class EmailService {
                 "Thank you for contributing to a greener planet!\n\n" +
                 "Regards,\nSmart e-Waste Collection Team");
 
-        mailSender.send(message);
+        send("approval", message);
     }
 
     // --- NEW: Send email to Pickup Person when assigned ---
@@ -65,6 +71,20 @@ public class EmailService {
                 "Please verify the item upon arrival and ask the customer for the OTP to complete the job.\n\n" +
                 "Regards,\nSmart e-Waste Admin Team");
 
-        mailSender.send(message);
+        send("pickup_assignment", message);
+    }
+
+    // Times every SMTP round trip, tagged by mail type and outcome so failures show up as a count
+    private void send(String type, SimpleMailMessage message) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            mailSender.send(message);
+        } catch (RuntimeException e) {
+            outcome = "failure";
+            throw e;
+        } finally {
+            sample.stop(meterRegistry.timer("ewaste.mail.send", "type", type, "outcome", outcome));
+        }
     }
 }
\ No newline at end of file
@@ -1,23 +1,130 @@
 // src/main/java/com/ewaste/ewaste/service/EwasteRequestService.java
 package com.ewaste.ewaste.service;
 
+import com.ewaste.ewaste.dto.AdminRequestView;
+import com.ewaste.ewaste.dto.EwasteRequestView;
+import com.ewaste.ewaste.dto.StoredImage;
+import com.ewaste.ewaste.model.ArchivedRequest;
 import com.ewaste.ewaste.model.EwasteRequest;
 import com.ewaste.ewaste.model.User;
+import com.ewaste.ewaste.repository.ArchivedRequestRepository;
 import com.ewaste.ewaste.repository.EwasteRequestRepository;
 import com.ewaste.ewaste.repository.UserRepository;
+import com.ewaste.ewaste.model.RequestStatus;
+import com.ewaste.ewaste.repository.RequestImageRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
 public class EwasteRequestService {
     private final EwasteRequestRepository requestRepository;
+    private final ArchivedRequestRepository archivedRequestRepository;
     private final UserRepository userRepository;
+    private final RequestImageService requestImageService;
+    private final RequestImageRepository requestImageRepository;
+    private final ImpactService impactService;
+
+    // Requests that can still be reviewed; a resubmission of one of these is a duplicate
+    private static final List<RequestStatus> OPEN_STATUSES =
+            List.of(RequestStatus.PENDING, RequestStatus.APPROVED, RequestStatus.SCHEDULED);
+
+    @Value("${app.request-dedup.window:24h}")
+    private Duration duplicateWindow;
+
+    /**
+     * An open request of the same user and device type, created within app.request-dedup.window,
+     * with exactly these photos (by SHA-256). Resubmitting the same set of photos is almost always
+     * a retry of a submission whose response the client never saw; a new request that reuses only
+     * some of them is not a duplicate.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findRecentDuplicate(User user, String deviceType, List<String> imageHashes) {
+        if (imageHashes.isEmpty() || deviceType == null) {
+            return Optional.empty();
+        }
+        Set<String> distinctHashes = new HashSet<>(imageHashes);
+        return requestImageRepository.findRequestsWithSameImages(distinctHashes, distinctHashes.size(),
+                        user.getId(), deviceType, OPEN_STATUSES, Instant.now().minus(duplicateWindow))
+                .stream()
+                .findFirst();
+    }
+
+    // The request and its image rows commit together
+    @Transactional
+    public EwasteRequest submitRequest(EwasteRequest request, List<StoredImage> images) {
+        EwasteRequest saved = requestRepository.save(request);
+        requestImageService.saveImages(saved.getId(), images);
+        return saved;
+    }
+
+    /**
+     * Moves a request to newStatus and updates its owner's impact rollup in the same transaction.
+     * The row is locked first, so concurrent changes of one request (an OTP double-tap, an admin
+     * and the pickup person at once) run one after the other and the second sees the status the
+     * first left. beforeChange (may be null) runs on the locked row and can throw to abort.
+     * The returned request has its owner loaded, for mails sent after the commit.
+     */
+    @Transactional
+    public EwasteRequest changeStatus(Long requestId, RequestStatus newStatus, Consumer<EwasteRequest> beforeChange) {
+        EwasteRequest request = requestRepository.findByIdForUpdate(requestId)
+                .orElseThrow(() -> new RuntimeException("Request not found"));
+        if (beforeChange != null) {
+            beforeChange.accept(request);
+        }
+
+        RequestStatus previousStatus = request.getStatus();
+        request.setStatus(newStatus);
+        // A completed request moved back to COLLECTED keeps its dates (and its impact rollup month)
+        if (newStatus == RequestStatus.COLLECTED && previousStatus != RequestStatus.COLLECTED
+                && previousStatus != RequestStatus.COMPLETED) {
+            request.setCollectedDate(Instant.now());
+        }
+        if (newStatus == RequestStatus.COMPLETED && previousStatus != RequestStatus.COMPLETED) {
+            request.setCompletedDate(Instant.now());
+        }
+        EwasteRequest saved = requestRepository.save(request);
+        impactService.onStatusChange(saved, previousStatus);
+        Hibernate.initialize(saved.getUser());
+        return saved;
+    }
+
+    // Every live request for the admin list, newest first, handed over row by row as it is read
+    @Transactional(readOnly = true)
+    public void forEachAdminView(Consumer<AdminRequestView> action) {
+        try (Stream<AdminRequestView> rows = requestRepository.streamAdminViews()) {
+            rows.forEach(action);
+        }
+    }
 
-    public List<EwasteRequest> getRequestsForUser(String email) {
+    // Live and archived requests together, newest first
+    @Transactional(readOnly = true)
+    public List<EwasteRequestView> getRequestViewsForUser(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
-        return requestRepository.findByUserIdOrderByCreatedAtDesc(user.getId());
+        List<EwasteRequestView> views = new ArrayList<>();
+        requestRepository.findByUserIdOrderByCreatedAtDesc(user.getId())
+                .forEach(request -> views.add(EwasteRequestView.fromEntity(request)));
+        for (ArchivedRequest archived : archivedRequestRepository.findByUserIdOrderByCreatedAtDesc(user.getId())) {
+            EwasteRequestView view = EwasteRequestView.fromEntity(archived.toRequest());
+            view.setAssignedPersonName(archived.getAssignedPersonName());
+            views.add(view);
+        }
+        views.sort(Comparator.comparing(EwasteRequestView::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder())));
+        return views;
     }
-}
\ No newline at end of file
+}
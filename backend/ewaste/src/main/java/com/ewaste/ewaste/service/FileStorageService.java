@@ -1,26 +1,202 @@
 package com.ewaste.ewaste.service;
 
+import com.ewaste.ewaste.dto.StoredImage;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.*;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Iterator;
 import java.util.UUID;
 
 @Service
 public class FileStorageService {
+    private static final Logger logger = LoggerFactory.getLogger(FileStorageService.class);
+
+    // Widths of the scaled JPEG variants written next to each image upload
+    private static final int THUMBNAIL_WIDTH = 320;
+    private static final int MEDIUM_WIDTH = 1280;
+
     private final Path root = Paths.get("uploads");
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary storedBytes;
+    private final long maxImagePixels;
 
-    public FileStorageService() {
+    public FileStorageService(MeterRegistry meterRegistry,
+                              @Value("${app.upload.max-image-pixels:50000000}") long maxImagePixels) {
+        this.meterRegistry = meterRegistry;
+        this.maxImagePixels = maxImagePixels;
+        this.storedBytes = DistributionSummary.builder("ewaste.file.store.size")
+                .baseUnit("bytes")
+                .register(meterRegistry);
         try { Files.createDirectories(root); } catch (IOException e) { throw new RuntimeException("Could not init folder"); }
     }
 
-    public String storeFile(MultipartFile file) {
+    /**
+     * Stores an upload and records its SHA-256 (computed while copying), size and, for images
+     * ImageIO can decode, dimensions plus thumbnail/medium variants. Other files are stored as-is.
+     * Images of more than app.upload.max-image-pixels are rejected with {@link ImageRejectedException}.
+     * Nothing is left on disk when this throws.
+     */
+    public StoredImage storeImage(MultipartFile file) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        String filename = UUID.randomUUID() + "-" + file.getOriginalFilename();
+        Path target = root.resolve(filename);
         try {
-            String filename = UUID.randomUUID() + "-" + file.getOriginalFilename();
-            Files.copy(file.getInputStream(), root.resolve(filename));
-            return "/uploads/" + filename; // Return URL path
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long bytes;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest)) {
+                bytes = Files.copy(in, target);
+            }
+            storedBytes.record(bytes);
+
+            StoredImage stored = new StoredImage();
+            stored.setUrl("/uploads/" + filename); // URL path
+            stored.setContentHash(HexFormat.of().formatHex(digest.digest()));
+            stored.setSizeBytes(bytes);
+            stored.setContentType(file.getContentType());
+            addVariants(stored, target, filename);
+            return stored;
+        } catch (ImageRejectedException e) {
+            outcome = "rejected";
+            deleteQuietly(target);
+            throw e;
         } catch (Exception e) {
+            outcome = "failure";
+            deleteQuietly(target);
             throw new RuntimeException("Error storing file: " + e.getMessage());
+        } finally {
+            sample.stop(meterRegistry.timer("ewaste.file.store", "outcome", outcome));
+        }
+    }
+
+    // Hex SHA-256 of an upload, matching StoredImage.contentHash, without storing anything
+    public String contentHash(MultipartFile file) {
+        try (InputStream in = file.getInputStream()) {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (Exception e) {
+            throw new RuntimeException("Error reading file: " + e.getMessage());
+        }
+    }
+
+    private void addVariants(StoredImage stored, Path original, String filename) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(original.toFile())) {
+            Iterator<ImageReader> readers = input == null ? null : ImageIO.getImageReaders(input);
+            if (readers == null || !readers.hasNext()) {
+                return;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                // From the header, before any pixels are decoded: a small file can still claim
+                // enough pixels to exhaust the heap
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > maxImagePixels) {
+                    throw new ImageRejectedException("Image is " + width + "x" + height
+                            + " pixels, the limit is " + maxImagePixels);
+                }
+                stored.setWidth(width);
+                stored.setHeight(height);
+
+                // Decode every n-th pixel only, still at least as wide as the largest variant
+                ImageReadParam param = reader.getDefaultReadParam();
+                int step = Math.max(1, width / MEDIUM_WIDTH);
+                param.setSourceSubsampling(step, step, 0, 0);
+                BufferedImage image = reader.read(0, param);
+
+                stored.setThumbnailUrl(writeVariant(image, width, filename, THUMBNAIL_WIDTH, "thumb"));
+                stored.setMediumUrl(writeVariant(image, width, filename, MEDIUM_WIDTH, "medium"));
+            } catch (IOException e) {
+                logger.debug("Could not decode {} as an image: {}", filename, e.getMessage());
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // Returns null when the original is no wider than the variant (clients then use the original)
+    private String writeVariant(BufferedImage image, int originalWidth, String filename, int width, String suffix) {
+        if (originalWidth <= width) {
+            return null;
+        }
+        int height = Math.max(1, (int) Math.round(image.getHeight() * (double) width / image.getWidth()));
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = scaled.createGraphics();
+        try {
+            // JPEG has no alpha channel, so transparent areas become white instead of black
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        int dot = filename.lastIndexOf('.');
+        String name = (dot > 0 ? filename.substring(0, dot) : filename) + "-" + suffix + ".jpg";
+        try {
+            ImageIO.write(scaled, "jpg", root.resolve(name).toFile());
+            return "/uploads/" + name;
+        } catch (IOException e) {
+            logger.warn("Could not write {} variant of {}: {}", suffix, filename, e.getMessage());
+            return null;
+        }
+    }
+
+    // Removes everything storeImage wrote for one upload, e.g. when the request using it was not saved
+    public void deleteStored(StoredImage image) {
+        deleteFile(image.getUrl());
+        deleteFile(image.getThumbnailUrl());
+        deleteFile(image.getMediumUrl());
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Could not delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    // Deletes a file previously returned by storeImage (original or variant); anything outside the uploads folder is ignored
+    public boolean deleteFile(String url) {
+        if (url == null || !url.startsWith("/uploads/")) {
+            return false;
+        }
+        Path file = root.resolve(url.substring("/uploads/".length())).normalize();
+        if (!file.startsWith(root)) {
+            return false;
+        }
+        try {
+            return Files.deleteIfExists(file);
+        } catch (IOException e) {
+            return false;
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,118 @@
+package com.ewaste.ewaste.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.function.Supplier;
+
+/**
+ * Short-lived store of Idempotency-Key values. The first request with a key runs; repeats with
+ * the same key and payload get the stored response back without running again. Keys are scoped
+ * per user and expire after app.idempotency.ttl.
+ *
+ * Only successful responses are kept, so a client can retry with the same key after an error.
+ * A repeat that arrives while the first is still running is answered with 409 right away instead
+ * of holding the connection until the first one finishes.
+ */
+@Service
+public class IdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    private final Cache<String, Entry> entries;
+
+    public IdempotencyService(@Value("${app.idempotency.ttl:24h}") Duration ttl,
+                              @Value("${app.idempotency.max-keys:100000}") long maxKeys) {
+        this.entries = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maxKeys)
+                .build();
+    }
+
+    /**
+     * Runs action once per (scope, key). fingerprint identifies the payload: reusing a key for a
+     * different payload is rejected with 422. Without a key the action simply runs.
+     */
+    public ResponseEntity<?> execute(String scope, String key, String fingerprint, Supplier<ResponseEntity<?>> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            return ResponseEntity.badRequest().body(HEADER + " must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String cacheKey = scope + '\n' + key;
+        Entry entry = new Entry(fingerprint);
+        Entry existing = entries.asMap().putIfAbsent(cacheKey, entry);
+        if (existing != null) {
+            return replay(existing, fingerprint);
+        }
+
+        ResponseEntity<?> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException e) {
+            entries.asMap().remove(cacheKey, entry);
+            throw e;
+        }
+        if (response.getStatusCode().is2xxSuccessful()) {
+            entry.complete(response);
+        } else {
+            entries.asMap().remove(cacheKey, entry);
+        }
+        return response;
+    }
+
+    /** SHA-256 over the given payload parts, for use as the fingerprint passed to execute. */
+    public static String fingerprint(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ResponseEntity<?> replay(Entry existing, String fingerprint) {
+        if (!existing.fingerprint.equals(fingerprint)) {
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY)
+                    .body(HEADER + " was already used for a different request");
+        }
+        ResponseEntity<?> response = existing.response;
+        if (response == null) {
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                    .header("Retry-After", "1")
+                    .body("A request with this " + HEADER + " is still being processed");
+        }
+        return ResponseEntity.status(response.getStatusCode())
+                .header("Idempotent-Replayed", "true")
+                .body(response.getBody());
+    }
+
+    private static final class Entry {
+        private final String fingerprint;
+        private volatile ResponseEntity<?> response;
+
+        private Entry(String fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        private void complete(ResponseEntity<?> response) {
+            this.response = response;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.ewaste.ewaste.service;
+
+/**
+ * An upload FileStorageService refuses to keep, e.g. an image over app.upload.max-image-pixels.
+ * Caused by the client's file, so controllers answer it with 400.
+ */
+public class ImageRejectedException extends RuntimeException {
+
+    public ImageRejectedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,156 @@
+package com.ewaste.ewaste.service;
+
+import com.ewaste.ewaste.config.ImpactProperties;
+import com.ewaste.ewaste.dto.ImpactSummary;
+import com.ewaste.ewaste.dto.LeaderboardEntry;
+import com.ewaste.ewaste.model.EwasteRequest;
+import com.ewaste.ewaste.model.RequestStatus;
+import com.ewaste.ewaste.model.User;
+import com.ewaste.ewaste.model.UserImpactRollup;
+import com.ewaste.ewaste.repository.ArchivedRequestRepository;
+import com.ewaste.ewaste.repository.EwasteRequestRepository;
+import com.ewaste.ewaste.repository.UserImpactRollupRepository;
+import com.ewaste.ewaste.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class ImpactService {
+
+    private static final Set<RequestStatus> RECYCLED = EnumSet.of(RequestStatus.COLLECTED, RequestStatus.COMPLETED);
+    private static final int MAX_LEADERBOARD_SIZE = 100;
+
+    private final UserImpactRollupRepository rollupRepository;
+    private final EwasteRequestRepository ewasteRequestRepository;
+    private final ArchivedRequestRepository archivedRequestRepository;
+    private final UserRepository userRepository;
+    private final ImpactProperties impactProperties;
+
+    /**
+     * Keeps the owner's monthly rollup in step with a status change: a request is added when it
+     * first reaches COLLECTED or COMPLETED and taken back out if it later leaves both (e.g. an admin
+     * correction), so COLLECTED -> COMPLETED is counted once. The month is the request's
+     * {@link #recycledAt} date, the same one {@link #rebuildRollups} groups by. Call after every
+     * status change, once the new status and its date are set.
+     */
+    @Transactional
+    public void onStatusChange(EwasteRequest request, RequestStatus previousStatus) {
+        boolean wasRecycled = RECYCLED.contains(previousStatus);
+        boolean isRecycled = RECYCLED.contains(request.getStatus());
+        if (wasRecycled == isRecycled || request.getUser() == null) {
+            return;
+        }
+        long items = Math.max(request.getQuantity(), 1);
+        ImpactProperties.Factor factor = impactProperties.factorFor(request.getDeviceType());
+        Long userId = request.getUser().getId();
+        int period = periodOf(recycledAt(request));
+        if (isRecycled) {
+            rollupRepository.addToRollup(userId, period, 1, items,
+                    items * factor.getWeightKg(), items * factor.getCo2Kg());
+        } else {
+            rollupRepository.removeFromRollup(userId, period, 1, items,
+                    items * factor.getWeightKg(), items * factor.getCo2Kg());
+            rollupRepository.deleteEmpty(userId, period);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public ImpactSummary getImpactForUser(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        ImpactSummary summary = new ImpactSummary();
+        List<ImpactSummary.MonthlyImpact> history = new ArrayList<>();
+        for (UserImpactRollup rollup : rollupRepository.findByUserIdOrderByPeriodMonthAsc(user.getId())) {
+            summary.setTotalRequests(summary.getTotalRequests() + rollup.getRequests());
+            summary.setTotalItems(summary.getTotalItems() + rollup.getItems());
+            summary.setTotalWeightKg(summary.getTotalWeightKg() + rollup.getWeightKg());
+            summary.setCo2SavedKg(summary.getCo2SavedKg() + rollup.getCo2Kg());
+            history.add(new ImpactSummary.MonthlyImpact(formatPeriod(rollup.getPeriodMonth()),
+                    rollup.getItems(), round(rollup.getWeightKg()), round(rollup.getCo2Kg())));
+        }
+        summary.setHistory(history);
+        summary.setEnergySavedKwh(round(summary.getTotalItems() * impactProperties.getEnergyKwhPerItem()));
+        summary.setWaterSavedLiters(round(summary.getTotalWeightKg() * impactProperties.getWaterLitersPerKg()));
+        // Ranked on the unrounded total, which is what countUsersAhead compares SUM(co2_kg) with
+        double co2SavedKg = summary.getCo2SavedKg();
+        summary.setTotalWeightKg(round(summary.getTotalWeightKg()));
+        summary.setCo2SavedKg(round(co2SavedKg));
+
+        summary.setCommunityParticipants(rollupRepository.countParticipants());
+        if (summary.getTotalRequests() > 0) {
+            summary.setCommunityPosition(rollupRepository.countUsersAhead(user.getId(), co2SavedKg) + 1);
+        }
+        return summary;
+    }
+
+    @Transactional(readOnly = true)
+    public List<LeaderboardEntry> getLeaderboard(int limit) {
+        int size = Math.max(1, Math.min(limit, MAX_LEADERBOARD_SIZE));
+        List<LeaderboardEntry> entries = rollupRepository.findLeaderboard(PageRequest.of(0, size));
+        for (int i = 0; i < entries.size(); i++) {
+            LeaderboardEntry entry = entries.get(i);
+            entry.setRank(i + 1);
+            entry.setTotalWeightKg(round(entry.getTotalWeightKg()));
+            entry.setCo2SavedKg(round(entry.getCo2SavedKg()));
+        }
+        return entries;
+    }
+
+    /**
+     * Recomputes every rollup from the live and archived request tables, e.g. after changing the
+     * factor table or for requests completed before rollups existed. Months come from the collection
+     * date, else the completion date, else the last update (rows from before those columns existed).
+     */
+    @Transactional
+    public int rebuildRollups() {
+        rollupRepository.deleteAllInBatch();
+        List<Object[]> rows = new ArrayList<>(ewasteRequestRepository.aggregateByUserMonthAndDevice(RECYCLED));
+        rows.addAll(archivedRequestRepository.aggregateByUserMonthAndDevice(RECYCLED));
+        for (Object[] row : rows) {
+            Long userId = (Long) row[0];
+            ImpactProperties.Factor factor = impactProperties.factorFor((String) row[1]);
+            int period = ((Number) row[2]).intValue() * 100 + ((Number) row[3]).intValue();
+            long requests = ((Number) row[4]).longValue();
+            long items = row[5] != null ? ((Number) row[5]).longValue() : requests;
+            rollupRepository.addToRollup(userId, period, requests, items,
+                    items * factor.getWeightKg(), items * factor.getCo2Kg());
+        }
+        return rows.size();
+    }
+
+    // Mirrors COALESCE(collectedDate, completedDate, updatedAt) in the aggregate queries. updatedAt
+    // is only reached for rows from before those columns existed, and is read before this change
+    // is flushed, so it is the value a rebuild would have bucketed the request by.
+    private static Instant recycledAt(EwasteRequest request) {
+        if (request.getCollectedDate() != null) {
+            return request.getCollectedDate();
+        }
+        return request.getCompletedDate() != null ? request.getCompletedDate() : request.getUpdatedAt();
+    }
+
+    // UTC, the session time zone the aggregate queries' YEAR()/MONTH() run in (application.properties)
+    private static int periodOf(Instant instant) {
+        YearMonth month = YearMonth.from(instant.atZone(ZoneOffset.UTC));
+        return month.getYear() * 100 + month.getMonthValue();
+    }
+
+    private static String formatPeriod(int periodMonth) {
+        return YearMonth.of(periodMonth / 100, periodMonth % 100).toString();
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10.0) / 10.0;
+    }
+}
\ No newline at end of file
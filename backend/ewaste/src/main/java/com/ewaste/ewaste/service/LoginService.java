@@ -0,0 +1,81 @@
+package com.ewaste.ewaste.service;
+
+import com.ewaste.ewaste.config.ReplicaRoutingDataSource;
+import com.ewaste.ewaste.config.SqlRequestStats;
+import com.ewaste.ewaste.dto.AuthResponse;
+import com.ewaste.ewaste.dto.SessionUser;
+import com.ewaste.ewaste.security.JwtTokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs logins (BCrypt check, JWT) on a small fixed pool instead of Tomcat threads, so a login
+ * spike can use at most app.login.threads cores and other endpoints keep theirs. The queue is
+ * bounded; when it is full {@link #login} throws RejectedExecutionException and the caller
+ * answers 503.
+ */
+@Service
+public class LoginService {
+
+    private final AuthenticationManager authenticationManager;
+    private final JwtTokenProvider tokenProvider;
+    private final ExecutorService executor;
+    private final ThreadPoolExecutor pool;
+
+    public LoginService(AuthenticationManager authenticationManager,
+                        JwtTokenProvider tokenProvider,
+                        MeterRegistry meterRegistry,
+                        @Value("${app.login.threads:0}") int threads,
+                        @Value("${app.login.queue-capacity:200}") int queueCapacity) {
+        this.authenticationManager = authenticationManager;
+        this.tokenProvider = tokenProvider;
+        // By default half the cores, leaving the rest for everything else
+        int size = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger counter = new AtomicInteger();
+        this.pool = new ThreadPoolExecutor(size, size, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "login-" + counter.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "login");
+    }
+
+    @PreDestroy
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    /**
+     * Authenticates on the login pool. The user is loaded once, by the authentication itself,
+     * and the response is built from that principal.
+     */
+    public CompletableFuture<AuthResponse> login(String email, String password) throws RejectedExecutionException {
+        return CompletableFuture.supplyAsync(() -> {
+            // Reads right after registration or a password change must not hit a lagging replica
+            ReplicaRoutingDataSource.setRoute(ReplicaRoutingDataSource.Route.PRIMARY);
+            try {
+                Authentication authentication = authenticationManager.authenticate(
+                        new UsernamePasswordAuthenticationToken(email, password));
+                UserDetailsImpl principal = (UserDetailsImpl) authentication.getPrincipal();
+                return new AuthResponse(tokenProvider.generateJwtToken(authentication), SessionUser.fromEntity(principal.getUser()));
+            } finally {
+                ReplicaRoutingDataSource.clearRoute();
+            }
+        }, task -> executor.execute(SqlRequestStats.propagate(task)));
+    }
+}
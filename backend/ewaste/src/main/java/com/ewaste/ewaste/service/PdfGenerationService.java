@@ -3,10 +3,15 @@ package com.ewaste.ewaste.service;
 
 import com.ewaste.ewaste.model.EwasteRequest;
 import com.ewaste.ewaste.model.User;
+import com.ewaste.ewaste.model.ArchivedRequest;
+import com.ewaste.ewaste.repository.ArchivedRequestRepository;
 import com.ewaste.ewaste.repository.EwasteRequestRepository;
 import com.lowagie.text.*;
 import com.lowagie.text.pdf.PdfWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
@@ -16,66 +21,81 @@ import com.lowagie.text.Document;
 import com.lowagie.text.DocumentException;
 import com.lowagie.text.Paragraph;
 
+// Only certificate and report downloads use it, so it is created on first use (see lombok.config)
+@Lazy
 @Service
 @RequiredArgsConstructor
 public class PdfGenerationService {
 
     private final EwasteRequestRepository ewasteRequestRepository;
+    private final ArchivedRequestRepository archivedRequestRepository;
+    private final MeterRegistry meterRegistry;
 
     // --- Font Definitions ---
-    private static final Font TITLE_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 18);
-    private static final Font HEADER_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12);
-    private static final Font BODY_FONT = FontFactory.getFont(FontFactory.HELVETICA, 11);
+    // In a holder so the font metrics load on the first PDF, not when the (lazy) bean proxy is created
+    private static final class Fonts {
+        static final Font TITLE_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 18);
+        static final Font HEADER_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12);
+        static final Font BODY_FONT = FontFactory.getFont(FontFactory.HELVETICA, 11);
+    }
 
     public ByteArrayInputStream generateRequestReportPdf(Long requestId, String userEmail) {
-        EwasteRequest request = ewasteRequestRepository.findById(requestId)
+        // Closed requests may have been moved to the archive by RequestArchiveService
+        EwasteRequest request = ewasteRequestRepository.findWithUserById(requestId)
+                .or(() -> archivedRequestRepository.findByRequestId(requestId).map(ArchivedRequest::toRequest))
                 .orElseThrow(() -> new RuntimeException("Request not found"));
 
         if (!request.getUser().getEmail().equals(userEmail)) {
             throw new RuntimeException("Access Denied");
         }
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         Document document = new Document(PageSize.A4);
         ByteArrayOutputStream out = new ByteArrayOutputStream();
         try {
             PdfWriter.getInstance(document, out);
             document.open();
 
-            document.add(new Paragraph("E-Waste Submission Report", TITLE_FONT));
-            document.add(new Paragraph("Request ID: " + request.getId(), BODY_FONT));
-            document.add(new Paragraph("Status: " + request.getStatus(), BODY_FONT));
-            document.add(new Paragraph("Device: " + request.getDeviceType(), BODY_FONT));
-            document.add(new Paragraph("Remarks: " + (request.getRemarks() != null ? request.getRemarks() : "None"), BODY_FONT));
+            document.add(new Paragraph("E-Waste Submission Report", Fonts.TITLE_FONT));
+            document.add(new Paragraph("Request ID: " + request.getId(), Fonts.BODY_FONT));
+            document.add(new Paragraph("Status: " + request.getStatus(), Fonts.BODY_FONT));
+            document.add(new Paragraph("Device: " + request.getDeviceType(), Fonts.BODY_FONT));
+            document.add(new Paragraph("Remarks: " + (request.getRemarks() != null ? request.getRemarks() : "None"), Fonts.BODY_FONT));
 
             document.close();
         } catch (DocumentException e) {
             throw new RuntimeException("Error generating PDF", e);
+        } finally {
+            sample.stop(meterRegistry.timer("ewaste.pdf.generate", "document", "request_report"));
         }
         return new ByteArrayInputStream(out.toByteArray());
     }
 
     public ByteArrayInputStream generateAppreciationCertificate(User user) {
+        Timer.Sample sample = Timer.start(meterRegistry);
         Document document = new Document(PageSize.A4.rotate());
         ByteArrayOutputStream out = new ByteArrayOutputStream();
         try {
             PdfWriter.getInstance(document, out);
             document.open();
 
-            Paragraph title = new Paragraph("Certificate of Appreciation", TITLE_FONT);
+            Paragraph title = new Paragraph("Certificate of Appreciation", Fonts.TITLE_FONT);
             title.setAlignment(Element.ALIGN_CENTER);
             document.add(title);
 
             document.add(new Paragraph("\n"));
-            Paragraph name = new Paragraph("Presented to " + user.getName(), HEADER_FONT);
+            Paragraph name = new Paragraph("Presented to " + user.getName(), Fonts.HEADER_FONT);
             name.setAlignment(Element.ALIGN_CENTER);
             document.add(name);
 
-            document.add(new Paragraph("\nFor your commitment to recycling e-waste.", BODY_FONT));
-            document.add(new Paragraph("Date: " + LocalDate.now().format(DateTimeFormatter.ISO_DATE), BODY_FONT));
+            document.add(new Paragraph("\nFor your commitment to recycling e-waste.", Fonts.BODY_FONT));
+            document.add(new Paragraph("Date: " + LocalDate.now().format(DateTimeFormatter.ISO_DATE), Fonts.BODY_FONT));
 
             document.close();
         } catch (DocumentException e) {
             throw new RuntimeException("Error generating Certificate", e);
+        } finally {
+            sample.stop(meterRegistry.timer("ewaste.pdf.generate", "document", "certificate"));
         }
         return new ByteArrayInputStream(out.toByteArray());
     }
@@ -1,18 +1,33 @@
 package com.ewaste.ewaste.service;
 
+import com.ewaste.ewaste.dto.AdminRequestView;
+import com.ewaste.ewaste.dto.PerformancePeriod;
+import com.ewaste.ewaste.dto.PickupPerformance;
 import com.ewaste.ewaste.model.EwasteRequest;
 import com.ewaste.ewaste.model.PickupPerson;
 import com.ewaste.ewaste.model.RequestStatus;
 import com.ewaste.ewaste.model.User;
+import com.ewaste.ewaste.repository.ArchivedRequestRepository;
 import com.ewaste.ewaste.repository.EwasteRequestRepository;
 import com.ewaste.ewaste.repository.PickupPersonRepository;
 import com.ewaste.ewaste.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.TreeMap;
 
 @Service
 @RequiredArgsConstructor
@@ -21,6 +36,11 @@ public class PickupPersonService {
     private final UserRepository userRepository;
     private final PickupPersonRepository pickupPersonRepository;
     private final EwasteRequestRepository ewasteRequestRepository;
+    private final ArchivedRequestRepository archivedRequestRepository;
+    private final EwasteRequestService ewasteRequestService;
+
+    @Value("${app.pickup.on-time-grace-hours:24}")
+    private long onTimeGraceHours;
 
     private PickupPerson getPickupPersonFromEmail(String email) {
         User user = userRepository.findByEmail(email)
@@ -29,28 +49,112 @@ public class PickupPersonService {
                 .orElseThrow(() -> new RuntimeException("Pickup person profile not found"));
     }
 
-    public List<EwasteRequest> getAssignedRequests(String email) {
+    @Transactional(readOnly = true)
+    public List<AdminRequestView> getAssignedRequests(String email) {
         PickupPerson pickupPerson = getPickupPersonFromEmail(email);
-        return ewasteRequestRepository.findByAssignedPickupPersonId(pickupPerson.getId());
+        return ewasteRequestRepository.findByAssignedPickupPersonId(pickupPerson.getId()).stream()
+                .map(AdminRequestView::fromEntity)
+                .toList();
     }
 
     @Transactional
     public EwasteRequest updateRequestStatus(Long requestId, RequestStatus newStatus, String email) {
         PickupPerson pickupPerson = getPickupPersonFromEmail(email);
-        EwasteRequest request = ewasteRequestRepository.findById(requestId)
-                .orElseThrow(() -> new RuntimeException("Request not found"));
-
-        // Security Check: Ensure this request is actually assigned to this pickup person
-        if (!Objects.equals(request.getAssignedPickupPerson().getId(), pickupPerson.getId())) {
-            throw new RuntimeException("Access Denied: This request is not assigned to you.");
-        }
-
         // Logic Check: Only allow setting to COLLECTED
         if (newStatus != RequestStatus.COLLECTED) {
             throw new RuntimeException("Invalid status update. Only 'COLLECTED' is allowed.");
         }
 
-        request.setStatus(newStatus);
-        return ewasteRequestRepository.save(request);
+        return ewasteRequestService.changeStatus(requestId, newStatus, request -> {
+            // Security Check: Ensure this request is actually assigned to this pickup person
+            if (request.getAssignedPickupPerson() == null
+                    || !Objects.equals(request.getAssignedPickupPerson().getId(), pickupPerson.getId())) {
+                throw new RuntimeException("Access Denied: This request is not assigned to you.");
+            }
+        });
+    }
+
+    // --- Performance analytics (aggregated in SQL, cached per period for spring.cache TTL) ---
+
+    @Cacheable(cacheNames = "pickupPerformance", key = "#email + ':' + #period.name()")
+    @Transactional(readOnly = true)
+    public PickupPerformance getPerformance(String email, PerformancePeriod period) {
+        PickupPerson pickupPerson = getPickupPersonFromEmail(email);
+        Instant to = Instant.now();
+        Instant from = to.minus(Duration.ofDays(period.getDays()));
+        long graceSeconds = Duration.ofHours(onTimeGraceHours).toSeconds();
+
+        List<Object[]> rows = ewasteRequestRepository.pickupPerformance(pickupPerson.getId(), from, to, graceSeconds);
+        if (rows.isEmpty()) {
+            throw new RuntimeException("Pickup person profile not found");
+        }
+        PickupPerformance performance = toPerformance(rows.get(0), period, from, to);
+        performance.setAssignedJobs(ewasteRequestRepository.countByAssignedPickupPersonId(pickupPerson.getId())
+                + archivedRequestRepository.countByAssignedPickupPersonId(pickupPerson.getId()));
+        performance.setWeeklyTrend(toWeeklyTrend(
+                ewasteRequestRepository.dailyCompletions(pickupPerson.getId(), from, to, graceSeconds)));
+        return performance;
+    }
+
+    @Cacheable(cacheNames = "pickupRanking", key = "#period.name()")
+    @Transactional(readOnly = true)
+    public List<PickupPerformance> getPerformanceRanking(PerformancePeriod period) {
+        Instant to = Instant.now();
+        Instant from = to.minus(Duration.ofDays(period.getDays()));
+        long graceSeconds = Duration.ofHours(onTimeGraceHours).toSeconds();
+
+        List<PickupPerformance> ranking = new ArrayList<>();
+        for (Object[] row : ewasteRequestRepository.pickupPerformanceForAll(from, to, graceSeconds)) {
+            ranking.add(toPerformance(row, period, from, to));
+        }
+        ranking.sort(Comparator.comparingLong(PickupPerformance::getCompletedJobs).reversed()
+                .thenComparing(PickupPerformance::getOnTimeRate, Comparator.nullsLast(Comparator.reverseOrder()))
+                .thenComparing(PickupPerformance::getAverageTurnaroundMinutes, Comparator.nullsLast(Comparator.naturalOrder())));
+        for (int i = 0; i < ranking.size(); i++) {
+            ranking.get(i).setRank(i + 1);
+        }
+        return ranking;
+    }
+
+    // Row layout: [pickupPersonId, name, completed, avgSeconds, onTimeCount, p90Seconds]
+    private PickupPerformance toPerformance(Object[] row, PerformancePeriod period, Instant from, Instant to) {
+        PickupPerformance performance = new PickupPerformance();
+        performance.setPickupPersonId(((Number) row[0]).longValue());
+        performance.setName((String) row[1]);
+        performance.setPeriod(period);
+        performance.setFrom(from);
+        performance.setTo(to);
+
+        long completed = ((Number) row[2]).longValue();
+        performance.setCompletedJobs(completed);
+        performance.setAverageTurnaroundMinutes(toMinutes(row[3]));
+        performance.setP90TurnaroundMinutes(toMinutes(row[5]));
+        performance.setOnTimeRate(percent(((Number) row[4]).longValue(), completed));
+        return performance;
+    }
+
+    // Row layout: [day, completed, onTimeCount]; days are folded into ISO weeks starting Monday
+    private List<PickupPerformance.WeeklyPerformance> toWeeklyTrend(List<Object[]> rows) {
+        Map<LocalDate, long[]> weeks = new TreeMap<>();
+        for (Object[] row : rows) {
+            LocalDate day = row[0] instanceof java.sql.Date date ? date.toLocalDate() : (LocalDate) row[0];
+            long[] totals = weeks.computeIfAbsent(
+                    day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)), k -> new long[2]);
+            totals[0] += ((Number) row[1]).longValue();
+            totals[1] += ((Number) row[2]).longValue();
+        }
+
+        List<PickupPerformance.WeeklyPerformance> trend = new ArrayList<>(weeks.size());
+        weeks.forEach((weekStart, totals) ->
+                trend.add(new PickupPerformance.WeeklyPerformance(weekStart, totals[0], percent(totals[1], totals[0]))));
+        return trend;
+    }
+
+    private static Double toMinutes(Object seconds) {
+        return seconds == null ? null : Math.round(((Number) seconds).doubleValue() / 6.0) / 10.0;
+    }
+
+    private static Double percent(long part, long total) {
+        return total == 0 ? null : Math.round(part * 1000.0 / total) / 10.0;
     }
 }
\ No newline at end of file
@@ -0,0 +1,188 @@
+package com.ewaste.ewaste.service;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.Year;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Moves closed (COMPLETED/REJECTED) requests that have not changed for app.archive.after-days
+ * from ewaste_requests into ewaste_requests_archive, so the live table only holds work that is
+ * still in flight. Each batch is copied and deleted in one short transaction.
+ *
+ * On MySQL the archive is RANGE-partitioned by closed_month (yyyyMM) with one partition per
+ * year; partitions for the coming year are added before each run.
+ */
+@Service
+@RequiredArgsConstructor
+public class RequestArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestArchiveService.class);
+
+    private static final List<String> CLOSED_STATUSES = List.of("COMPLETED", "REJECTED");
+    private static final String ARCHIVE_TABLE = "ewaste_requests_archive";
+    // Years before this many years back all share the p_old partition
+    private static final int PARTITION_HISTORY_YEARS = 5;
+
+    private static final String CLOSED_FILTER = "r.status IN (:statuses) AND r.updated_at < :cutoff";
+    private static final String CLOSED_AT = "COALESCE(r.completed_date, r.updated_at)";
+
+    private static final String COPY_SQL = "INSERT INTO " + ARCHIVE_TABLE + " (id, closed_month, user_id, device_type, " +
+            "brand, model, condition_status, quantity, pickup_address, remarks, status, rejection_reason, " +
+            "admin_remarks, scheduled_pickup_date, completed_date, collected_date, assigned_pickup_person_id, assigned_person_name, " +
+            "created_at, updated_at, archived_at) " +
+            "SELECT r.id, YEAR(" + CLOSED_AT + ") * 100 + MONTH(" + CLOSED_AT + "), r.user_id, r.device_type, " +
+            "r.brand, r.model, r.condition_status, r.quantity, r.pickup_address, r.remarks, r.status, " +
+            "r.rejection_reason, r.admin_remarks, r.scheduled_pickup_date, r.completed_date, r.collected_date, " +
+            "r.assigned_pickup_person_id, pu.name, r.created_at, r.updated_at, :now " +
+            "FROM ewaste_requests r " +
+            "LEFT JOIN pickup_persons p ON p.id = r.assigned_pickup_person_id " +
+            "LEFT JOIN users pu ON pu.id = p.user_id " +
+            "WHERE r.id IN (:ids) AND " + CLOSED_FILTER;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.archive.after-days:90}")
+    private int afterDays;
+
+    @Value("${app.archive.batch-size:1000}")
+    private int batchSize;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile Boolean mySql;
+
+    @Scheduled(cron = "${app.archive.cron:0 30 3 * * *}")
+    public void scheduledArchive() {
+        if (enabled) {
+            archiveClosedRequests();
+        }
+    }
+
+    /** Runs one archival pass and returns the number of requests moved. */
+    public int archiveClosedRequests() {
+        if (!running.compareAndSet(false, true)) {
+            logger.info("Request archival already running, skipping");
+            return 0;
+        }
+        try {
+            if (isMySql()) {
+                ensurePartitions(Year.now().getValue() + 1);
+            }
+
+            Timestamp cutoff = Timestamp.from(Instant.now().minus(afterDays, ChronoUnit.DAYS));
+            int moved = 0;
+            long lastId = 0;
+            while (true) {
+                List<Long> ids = jdbcTemplate.queryForList("SELECT r.id FROM ewaste_requests r " +
+                                "WHERE " + CLOSED_FILTER + " AND r.id > :lastId ORDER BY r.id LIMIT :limit",
+                        new MapSqlParameterSource("statuses", CLOSED_STATUSES)
+                                .addValue("cutoff", cutoff)
+                                .addValue("lastId", lastId)
+                                .addValue("limit", batchSize),
+                        Long.class);
+                if (ids.isEmpty()) {
+                    break;
+                }
+                lastId = ids.get(ids.size() - 1);
+                Integer batch = transactionTemplate.execute(status -> moveBatch(ids, cutoff));
+                moved += batch != null ? batch : 0;
+            }
+            if (moved > 0) {
+                logger.info("Archived {} closed requests older than {} days", moved, afterDays);
+            }
+            return moved;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // The delete repeats the copy's filter; if a row changed in between, the counts differ and the batch rolls back
+    private int moveBatch(List<Long> ids, Timestamp cutoff) {
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids)
+                .addValue("statuses", CLOSED_STATUSES)
+                .addValue("cutoff", cutoff)
+                .addValue("now", Timestamp.from(Instant.now()));
+        int copied = jdbcTemplate.update(COPY_SQL, params);
+        int deleted = jdbcTemplate.update("DELETE FROM ewaste_requests r WHERE r.id IN (:ids) AND " + CLOSED_FILTER, params);
+        if (copied != deleted) {
+            throw new IllegalStateException("Archive batch changed while moving (" + copied + " copied, " + deleted + " deleted)");
+        }
+        return deleted;
+    }
+
+    private boolean isMySql() {
+        if (mySql == null) {
+            String product = jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<String>) connection ->
+                    connection.getMetaData().getDatabaseProductName());
+            mySql = "MySQL".equalsIgnoreCase(product);
+        }
+        return mySql;
+    }
+
+    /**
+     * Partitions the archive by year on first use, then splits p_future so there is always a
+     * partition up to throughYear. Failures are logged; archival works on an unpartitioned table too.
+     */
+    private void ensurePartitions(int throughYear) {
+        try {
+            List<String> partitions = jdbcTemplate.queryForList(
+                    "SELECT partition_name FROM information_schema.partitions " +
+                    "WHERE table_schema = DATABASE() AND table_name = :table AND partition_name IS NOT NULL",
+                    new MapSqlParameterSource("table", ARCHIVE_TABLE), String.class);
+
+            if (partitions.isEmpty()) {
+                int firstYear = throughYear - PARTITION_HISTORY_YEARS;
+                StringJoiner definitions = new StringJoiner(", ");
+                definitions.add("PARTITION p_old VALUES LESS THAN (" + yearStart(firstYear) + ")");
+                for (int year = firstYear; year <= throughYear; year++) {
+                    definitions.add(yearPartition(year));
+                }
+                definitions.add("PARTITION p_future VALUES LESS THAN MAXVALUE");
+                logger.info("Partitioning {} by year up to {}", ARCHIVE_TABLE, throughYear);
+                jdbcTemplate.getJdbcTemplate().execute("ALTER TABLE " + ARCHIVE_TABLE +
+                        " PARTITION BY RANGE (closed_month) (" + definitions + ")");
+                return;
+            }
+
+            int lastYear = partitions.stream()
+                    .filter(name -> name.matches("p\\d{4}"))
+                    .mapToInt(name -> Integer.parseInt(name.substring(1)))
+                    .max()
+                    .orElse(throughYear);
+            for (int year = lastYear + 1; year <= throughYear; year++) {
+                logger.info("Adding archive partition p{}", year);
+                jdbcTemplate.getJdbcTemplate().execute("ALTER TABLE " + ARCHIVE_TABLE + " REORGANIZE PARTITION p_future INTO (" +
+                        yearPartition(year) + ", PARTITION p_future VALUES LESS THAN MAXVALUE)");
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Could not maintain {} partitions: {}", ARCHIVE_TABLE, e.getMessage());
+        }
+    }
+
+    private static String yearPartition(int year) {
+        return "PARTITION p" + year + " VALUES LESS THAN (" + yearStart(year + 1) + ")";
+    }
+
+    // closed_month of January of the given year, e.g. 202501
+    private static int yearStart(int year) {
+        return year * 100 + 1;
+    }
+}
@@ -0,0 +1,69 @@
+package com.ewaste.ewaste.service;
+
+import com.ewaste.ewaste.dto.RequestImageView;
+import com.ewaste.ewaste.dto.StoredImage;
+import com.ewaste.ewaste.repository.ArchivedRequestRepository;
+import com.ewaste.ewaste.repository.EwasteRequestRepository;
+import com.ewaste.ewaste.repository.RequestImageRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Request photos live in request_images and are only loaded for a request's detail view,
+ * never with request lists.
+ */
+@Service
+@RequiredArgsConstructor
+public class RequestImageService {
+
+    private final RequestImageRepository requestImageRepository;
+    private final EwasteRequestRepository ewasteRequestRepository;
+    private final ArchivedRequestRepository archivedRequestRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    // One JDBC batch for all of a request's images (a single round trip with rewriteBatchedStatements=true)
+    @Transactional
+    public void saveImages(Long requestId, List<StoredImage> images) {
+        if (images.isEmpty()) {
+            return;
+        }
+        Timestamp now = Timestamp.from(Instant.now());
+        MapSqlParameterSource[] rows = new MapSqlParameterSource[images.size()];
+        for (int i = 0; i < images.size(); i++) {
+            StoredImage image = images.get(i);
+            rows[i] = new MapSqlParameterSource("requestId", requestId)
+                    .addValue("sortOrder", i)
+                    .addValue("url", image.getUrl())
+                    .addValue("contentHash", image.getContentHash())
+                    .addValue("sizeBytes", image.getSizeBytes())
+                    .addValue("width", image.getWidth())
+                    .addValue("height", image.getHeight())
+                    .addValue("contentType", image.getContentType())
+                    .addValue("thumbnailUrl", image.getThumbnailUrl())
+                    .addValue("mediumUrl", image.getMediumUrl())
+                    .addValue("createdAt", now);
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO request_images (request_id, sort_order, url, content_hash, size_bytes, " +
+                "width, height, content_type, thumbnail_url, medium_url, created_at) VALUES (:requestId, :sortOrder, " +
+                ":url, :contentHash, :sizeBytes, :width, :height, :contentType, :thumbnailUrl, :mediumUrl, :createdAt)", rows);
+    }
+
+    /** Images of a live or archived request, for admins, its owner and its assigned pickup person. */
+    @Transactional(readOnly = true)
+    public List<RequestImageView> getImages(Long requestId, String email, boolean admin) {
+        if (!admin && !ewasteRequestRepository.isVisibleTo(requestId, email)
+                && !archivedRequestRepository.existsByIdAndUser_Email(requestId, email)) {
+            throw new RuntimeException("Access Denied");
+        }
+        return requestImageRepository.findByRequestIdOrderBySortOrderAsc(requestId).stream()
+                .map(RequestImageView::fromEntity)
+                .toList();
+    }
+}
@@ -0,0 +1,100 @@
+package com.ewaste.ewaste.service;
+
+import com.ewaste.ewaste.dto.AdminRequestView;
+import com.ewaste.ewaste.dto.RequestSearchResult;
+import com.ewaste.ewaste.model.ConditionStatus;
+import com.ewaste.ewaste.model.EwasteRequest;
+import com.ewaste.ewaste.model.RequestStatus;
+import com.ewaste.ewaste.repository.EwasteRequestRepository;
+import com.ewaste.ewaste.repository.RequestSearchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class RequestSearchService {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final RequestSearchRepository requestSearchRepository;
+    private final EwasteRequestRepository ewasteRequestRepository;
+
+    /**
+     * Free-text search over brand, model, device type, address, remarks and customer name/email,
+     * narrowed by the optional facet filters. Each facet is counted without its own filter. Facets
+     * are only computed when asked for (clients need them when the query or filters change, not
+     * when paging); they take one GROUP BY per facet and also give the total, otherwise a COUNT
+     * does. Then the page of ids, and the page's rows with their user and pickup person.
+     */
+    @Transactional(readOnly = true)
+    public RequestSearchResult search(String text, String status, String deviceType, String condition,
+                                      int page, int size, boolean withFacets) {
+        RequestSearchRepository.Criteria criteria = new RequestSearchRepository.Criteria();
+        criteria.setText(blankToNull(text));
+        criteria.setStatus(status == null || status.isBlank() || status.equalsIgnoreCase("ALL")
+                ? null : RequestStatus.valueOf(status.toUpperCase()).name());
+        criteria.setDeviceType(blankToNull(deviceType));
+        criteria.setConditionStatus(condition == null || condition.isBlank()
+                ? null : ConditionStatus.valueOf(condition.toUpperCase()).name());
+
+        int pageNumber = Math.max(page, 0);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        RequestSearchResult result = new RequestSearchResult();
+        long total;
+        if (withFacets) {
+            Map<String, Long> statusFacets = facet(criteria, RequestSearchRepository.Facet.STATUS);
+            result.setStatusFacets(statusFacets);
+            result.setDeviceTypeFacets(facet(criteria, RequestSearchRepository.Facet.DEVICE_TYPE));
+            result.setConditionFacets(facet(criteria, RequestSearchRepository.Facet.CONDITION));
+            // The status facet covers every other filter, so its selected value (or all) is the total
+            total = criteria.getStatus() != null
+                    ? statusFacets.getOrDefault(criteria.getStatus(), 0L)
+                    : statusFacets.values().stream().mapToLong(Long::longValue).sum();
+        } else {
+            total = requestSearchRepository.count(criteria);
+        }
+
+        List<AdminRequestView> content = List.of();
+        if (total > (long) pageNumber * pageSize) {
+            List<Long> ids = requestSearchRepository.findIds(criteria, pageNumber * pageSize, pageSize);
+            Map<Long, EwasteRequest> byId = ewasteRequestRepository.findWithDetailsByIdIn(ids).stream()
+                    .collect(Collectors.toMap(EwasteRequest::getId, Function.identity()));
+            // Keep the search order; a row deleted in between is simply skipped
+            content = ids.stream()
+                    .map(byId::get)
+                    .filter(Objects::nonNull)
+                    .map(AdminRequestView::fromEntity)
+                    .toList();
+        }
+
+        result.setContent(content);
+        result.setPage(pageNumber);
+        result.setSize(pageSize);
+        result.setTotalElements(total);
+        result.setTotalPages((int) ((total + pageSize - 1) / pageSize));
+        return result;
+    }
+
+    // Value -> count, largest first
+    private Map<String, Long> facet(RequestSearchRepository.Criteria criteria, RequestSearchRepository.Facet facet) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        requestSearchRepository.facetCounts(criteria, facet).stream()
+                .sorted(Comparator.comparingLong((Object[] row) -> (Long) row[1]).reversed())
+                .forEach(row -> sorted.put((String) row[0], (Long) row[1]));
+        return sorted;
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+}
@@ -1,12 +1,17 @@
 package com.ewaste.ewaste.service;
 
 import com.ewaste.ewaste.dto.RequestStats; // Import the DTO
+import com.ewaste.ewaste.model.RequestStatus;
 import com.ewaste.ewaste.model.User;
+import com.ewaste.ewaste.repository.ArchivedRequestRepository;
 import com.ewaste.ewaste.repository.EwasteRequestRepository;
 import com.ewaste.ewaste.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -15,10 +20,20 @@ import java.util.Map;
 public class StatsService {
 
     private final EwasteRequestRepository ewasteRequestRepository;
+    private final ArchivedRequestRepository archivedRequestRepository;
     private final UserRepository userRepository;
 
+    // Counts span the live and archived tables, merged per status
     public List<Map<String, Object>> getGlobalRequestStats() {
-        return ewasteRequestRepository.countRequestsByStatus();
+        Map<Object, Long> counts = new HashMap<>();
+        List<Map<String, Object>> rows = new ArrayList<>(ewasteRequestRepository.countRequestsByStatus());
+        rows.addAll(archivedRequestRepository.countRequestsByStatus());
+        for (Map<String, Object> row : rows) {
+            counts.merge(row.get("status"), ((Number) row.get("count")).longValue(), Long::sum);
+        }
+        List<Map<String, Object>> merged = new ArrayList<>();
+        counts.forEach((status, count) -> merged.add(Map.of("status", status, "count", count)));
+        return merged;
     }
 
     /**
@@ -28,6 +43,14 @@ public class StatsService {
     public List<RequestStats> getUserRequestStats(String email) {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new RuntimeException("User not found"));
-        return ewasteRequestRepository.countUserRequestsByStatus(user.getId());
+        Map<RequestStatus, Long> counts = new EnumMap<>(RequestStatus.class);
+        List<RequestStats> rows = new ArrayList<>(ewasteRequestRepository.countUserRequestsByStatus(user.getId()));
+        rows.addAll(archivedRequestRepository.countUserRequestsByStatus(user.getId()));
+        for (RequestStats row : rows) {
+            counts.merge(row.getStatus(), row.getCount(), Long::sum);
+        }
+        List<RequestStats> merged = new ArrayList<>();
+        counts.forEach((status, count) -> merged.add(new RequestStats(status, count)));
+        return merged;
     }
 }
\ No newline at end of file
@@ -0,0 +1,141 @@
+package com.ewaste.ewaste.service;
+
+import com.ewaste.ewaste.config.FullTextIndexes;
+import com.ewaste.ewaste.dto.SupportTicketView;
+import com.ewaste.ewaste.model.SupportQuery;
+import com.ewaste.ewaste.model.User;
+import com.ewaste.ewaste.repository.SupportQueryRepository;
+import com.ewaste.ewaste.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+@Service
+@RequiredArgsConstructor
+public class SupportQueryService {
+
+    public static final Set<String> STATUSES = Set.of("Open", "Pending", "Resolved", "Closed");
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final SupportQueryRepository supportQueryRepository;
+    private final UserRepository userRepository;
+    private final FullTextIndexes fullTextIndexes;
+
+    @Transactional
+    public SupportTicketView createTicket(SupportQuery query, String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        query.setId(null);
+        query.setUser(user);
+        query.setStatus("Open");
+        query.setAdminReply(null);
+        query.setResolvedAt(null);
+        query.setCreatedAt(LocalDateTime.now());
+
+        SupportQuery saved = supportQueryRepository.save(query);
+        return new SupportTicketView(saved.getId(), saved.getSubject(), saved.getCategory(), saved.getDescription(),
+                saved.getStatus(), saved.getRelatedRequestId(), saved.getAdminReply(), saved.getCreatedAt(),
+                saved.getResolvedAt(), user.getName(), user.getEmail());
+    }
+
+    @Transactional(readOnly = true)
+    public List<SupportTicketView> getMyTickets(String email) {
+        return supportQueryRepository.findViewsByUserEmail(email);
+    }
+
+    // Tickets per status over the whole queue, for the admin header (the queue itself is paged)
+    @Transactional(readOnly = true)
+    public Map<String, Long> countByStatus() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (Object[] row : supportQueryRepository.countByStatus()) {
+            counts.put((String) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
+    /**
+     * Admin queue, filtered by status/category and ordered by age (oldest first unless
+     * newestFirst). A search term goes through the FULLTEXT index on MySQL and LIKE elsewhere.
+     */
+    @Transactional(readOnly = true)
+    public Page<SupportTicketView> getQueue(String status, String category, String search,
+                                            boolean newestFirst, int page, int size) {
+        String statusFilter = blankToNull(status);
+        String categoryFilter = blankToNull(category);
+        String term = blankToNull(search);
+        Sort.Direction direction = newestFirst ? Sort.Direction.DESC : Sort.Direction.ASC;
+        int pageNumber = Math.max(page, 0);
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        if (term == null) {
+            return supportQueryRepository.findQueue(statusFilter, categoryFilter,
+                    PageRequest.of(pageNumber, pageSize, Sort.by(direction, "createdAt")));
+        }
+
+        String booleanQuery = FullTextIndexes.toBooleanQuery(term);
+        if (fullTextIndexes.isEnabled() && booleanQuery != null) {
+            Page<Long> ids = supportQueryRepository.searchQueueIds(booleanQuery, statusFilter, categoryFilter,
+                    PageRequest.of(pageNumber, pageSize, Sort.by(direction, "created_at")));
+            List<Long> order = ids.getContent();
+            if (order.isEmpty()) {
+                return new PageImpl<>(List.of(), ids.getPageable(), ids.getTotalElements());
+            }
+            List<SupportTicketView> views = supportQueryRepository.findViewsByIdIn(order);
+            views.sort(Comparator.comparingInt(view -> order.indexOf(view.getId())));
+            return new PageImpl<>(views, ids.getPageable(), ids.getTotalElements());
+        }
+
+        String pattern = "%" + term.toLowerCase(Locale.ROOT) + "%";
+        return supportQueryRepository.searchQueueByLike(statusFilter, categoryFilter, pattern,
+                PageRequest.of(pageNumber, pageSize, Sort.by(direction, "createdAt")));
+    }
+
+    @Transactional
+    public SupportTicketView replyToTicket(Long id, String replyText) {
+        SupportQuery ticket = supportQueryRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Ticket not found"));
+
+        ticket.setAdminReply(replyText);
+        ticket.setStatus("Resolved");
+        ticket.setResolvedAt(LocalDateTime.now());
+        supportQueryRepository.save(ticket);
+        return supportQueryRepository.findViewById(id);
+    }
+
+    @Transactional
+    public SupportTicketView updateStatus(Long id, String status) {
+        if (status == null || !STATUSES.contains(status)) {
+            throw new RuntimeException("Invalid status. Allowed: " + String.join(", ", STATUSES));
+        }
+        SupportQuery ticket = supportQueryRepository.findById(id)
+                .orElseThrow(() -> new RuntimeException("Ticket not found"));
+
+        boolean closing = status.equals("Resolved") || status.equals("Closed");
+        ticket.setStatus(status);
+        if (closing && ticket.getResolvedAt() == null) {
+            ticket.setResolvedAt(LocalDateTime.now());
+        } else if (!closing) {
+            ticket.setResolvedAt(null);
+        }
+        supportQueryRepository.save(ticket);
+        return supportQueryRepository.findViewById(id);
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() || value.equalsIgnoreCase("ALL") ? null : value.trim();
+    }
+}
@@ -0,0 +1,311 @@
+package com.ewaste.ewaste.service;
+
+import com.ewaste.ewaste.model.PickupPerson;
+import com.ewaste.ewaste.model.User;
+import com.ewaste.ewaste.model.UserDeletionJob;
+import com.ewaste.ewaste.repository.ArchivedRequestRepository;
+import com.ewaste.ewaste.repository.DailyReportRepository;
+import com.ewaste.ewaste.repository.EwasteRequestRepository;
+import com.ewaste.ewaste.repository.UserDeletionJobRepository;
+import com.ewaste.ewaste.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.cache.annotation.CacheEvict;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Runs user deletion/anonymization off the request thread. Child rows are handled with
+ * keyset-paged JDBC batches, each in its own short transaction, instead of letting the
+ * User.requests cascade load and delete every request one by one. Jobs are queued in memory, so
+ * the database heartbeat lets a restarted or another instance resume the ones left behind.
+ */
+@Service
+@RequiredArgsConstructor
+public class UserDeletionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserDeletionService.class);
+
+    private static final List<UserDeletionJob.Status> ACTIVE_STATUSES =
+            List.of(UserDeletionJob.Status.QUEUED, UserDeletionJob.Status.RUNNING);
+    private static final String REMOVED = "[removed]";
+
+    private final UserRepository userRepository;
+    private final UserDeletionJobRepository jobRepository;
+    private final EwasteRequestRepository ewasteRequestRepository;
+    private final ArchivedRequestRepository archivedRequestRepository;
+    private final DailyReportRepository dailyReportRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final FileStorageService fileStorageService;
+    private final EntityManagerFactory entityManagerFactory;
+
+    @Value("${app.user-deletion.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.user-deletion.stale-after-ms:180000}")
+    private long staleAfterMs;
+
+    // A single worker: jobs run one at a time so a large account cannot tie up the connection pool
+    private final ExecutorService worker = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "user-deletion");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    // Jobs queued on or running in this instance; keepAlive() refreshes their heartbeat
+    private final Set<Long> heldJobs = ConcurrentHashMap.newKeySet();
+
+    @PreDestroy
+    void shutdown() {
+        worker.shutdown();
+    }
+
+    /**
+     * Locks the account (status DELETING, unusable password) and queues the job once this
+     * transaction commits. Returns straight away; poll {@link #getJob(Long)} for progress.
+     */
+    @CacheEvict(cacheNames = "userProfiles", allEntries = true)
+    @Transactional
+    public UserDeletionJob startJob(Long userId, UserDeletionJob.Mode mode) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        if (jobRepository.existsByUserIdAndStatusIn(userId, ACTIVE_STATUSES)) {
+            throw new RuntimeException("A deletion job is already in progress for this user");
+        }
+
+        user.setStatus("DELETING");
+        user.setPassword("!" + UUID.randomUUID()); // not a BCrypt hash, so no password matches
+        userRepository.save(user);
+
+        UserDeletionJob job = new UserDeletionJob();
+        job.setUserId(userId);
+        job.setMode(mode);
+        job.setRequestsTotal(ewasteRequestRepository.countByUserId(userId) + archivedRequestRepository.countByUserId(userId));
+        UserDeletionJob saved = jobRepository.save(job);
+
+        Long jobId = saved.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(jobId);
+            }
+        });
+        return saved;
+    }
+
+    public UserDeletionJob getJob(Long jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Deletion job not found"));
+    }
+
+    @Scheduled(fixedDelayString = "${app.user-deletion.heartbeat-interval-ms:30000}")
+    public void keepAlive() {
+        if (!heldJobs.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> jobRepository.touch(List.copyOf(heldJobs), Instant.now()));
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        reclaimStaleJobs();
+    }
+
+    /**
+     * Resumes QUEUED/RUNNING jobs whose heartbeat stopped, e.g. because the instance holding them
+     * was restarted; otherwise the user would stay DELETING and no new job could be started.
+     * Every step skips the rows an earlier run already handled, so a job picks up where it stopped.
+     */
+    @Scheduled(fixedDelayString = "${app.user-deletion.reclaim-interval-ms:60000}",
+            initialDelayString = "${app.user-deletion.reclaim-interval-ms:60000}")
+    public void reclaimStaleJobs() {
+        Instant staleBefore = Instant.now().minusMillis(staleAfterMs);
+        for (UserDeletionJob job : jobRepository.findByStatusInAndHeartbeatAtBefore(ACTIVE_STATUSES, staleBefore)) {
+            Integer claimed = transactionTemplate.execute(status ->
+                    jobRepository.claimStale(job.getId(), ACTIVE_STATUSES, staleBefore, Instant.now()));
+            if (claimed != null && claimed == 1) {
+                logger.warn("Resuming user deletion job {} for user {} (was {})", job.getId(), job.getUserId(), job.getStatus());
+                submit(job.getId());
+            }
+        }
+    }
+
+    private void submit(Long jobId) {
+        heldJobs.add(jobId);
+        worker.execute(() -> {
+            try {
+                run(jobId);
+            } finally {
+                heldJobs.remove(jobId);
+            }
+        });
+    }
+
+    private void run(Long jobId) {
+        UserDeletionJob job = getJob(jobId);
+        job.setStatus(UserDeletionJob.Status.RUNNING);
+        if (job.getStartedAt() == null) {
+            job.setStartedAt(Instant.now());
+        }
+        jobRepository.save(job);
+
+        try {
+            removePickupPersonProfile(job.getUserId());
+            processRequests(job, "ewaste_requests");
+            processRequests(job, "ewaste_requests_archive");
+            processTickets(job);
+            finishUser(job);
+            job.setStatus(UserDeletionJob.Status.COMPLETED);
+            logger.info("User deletion job {} ({}) finished for user {}", jobId, job.getMode(), job.getUserId());
+        } catch (RuntimeException e) {
+            logger.error("User deletion job {} failed for user {}", jobId, job.getUserId(), e);
+            job.setStatus(UserDeletionJob.Status.FAILED);
+            String message = String.valueOf(e.getMessage());
+            job.setError(message.length() > 255 ? message.substring(0, 255) : message);
+        }
+        job.setFinishedAt(Instant.now());
+        jobRepository.save(job);
+    }
+
+    // Open assignments go back to APPROVED for rescheduling, then the profile itself is dropped
+    private void removePickupPersonProfile(Long userId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<Long> pickupPersonIds = jdbcTemplate.queryForList(
+                    "SELECT id FROM pickup_persons WHERE user_id = :userId",
+                    new MapSqlParameterSource("userId", userId), Long.class);
+            for (Long pickupPersonId : pickupPersonIds) {
+                ewasteRequestRepository.unassignPickupPerson(pickupPersonId, Instant.now());
+                dailyReportRepository.deleteByPickupPersonId(pickupPersonId);
+                jdbcTemplate.update("UPDATE ewaste_requests_archive SET assigned_person_name = NULL " +
+                                "WHERE assigned_pickup_person_id = :id",
+                        new MapSqlParameterSource("id", pickupPersonId));
+                jdbcTemplate.update("DELETE FROM pickup_persons WHERE id = :id",
+                        new MapSqlParameterSource("id", pickupPersonId));
+            }
+        });
+        evictFromSecondLevelCache(userId);
+    }
+
+    // Runs for the live table and the archive; both keep the original request ids, which is
+    // also what request_images is keyed by. Photos are removed in both modes. Rows already
+    // scrubbed by an earlier run of the job are skipped, so resumed jobs count them once.
+    private void processRequests(UserDeletionJob job, String table) {
+        boolean delete = job.getMode() == UserDeletionJob.Mode.DELETE;
+        long lastId = 0;
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM " + table + " " +
+                            "WHERE user_id = :userId AND id > :lastId " +
+                            (delete ? "" : "AND pickup_address <> :removed ") + "ORDER BY id LIMIT :limit",
+                    new MapSqlParameterSource("userId", job.getUserId())
+                            .addValue("lastId", lastId)
+                            .addValue("removed", REMOVED)
+                            .addValue("limit", batchSize),
+                    Long.class);
+            if (ids.isEmpty()) {
+                return;
+            }
+            lastId = ids.get(ids.size() - 1);
+
+            MapSqlParameterSource params = new MapSqlParameterSource("ids", ids).addValue("removed", REMOVED);
+            List<String> fileUrls = new ArrayList<>();
+            jdbcTemplate.query("SELECT url, thumbnail_url, medium_url FROM request_images WHERE request_id IN (:ids)",
+                    params, rs -> {
+                        for (int column = 1; column <= 3; column++) {
+                            String url = rs.getString(column);
+                            if (url != null) {
+                                fileUrls.add(url);
+                            }
+                        }
+                    });
+
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update("DELETE FROM request_images WHERE request_id IN (:ids)", params);
+                jdbcTemplate.update(delete
+                        ? "DELETE FROM " + table + " WHERE id IN (:ids)"
+                        : "UPDATE " + table + " SET pickup_address = :removed, remarks = NULL WHERE id IN (:ids)", params);
+            });
+
+            // Files go only after their rows are gone, so a failed batch never leaves dangling URLs
+            long deletedFiles = fileUrls.stream().filter(fileStorageService::deleteFile).count();
+            job.setRequestsProcessed(job.getRequestsProcessed() + ids.size());
+            job.setFilesDeleted(job.getFilesDeleted() + deletedFiles);
+            jobRepository.save(job);
+        }
+    }
+
+    private void processTickets(UserDeletionJob job) {
+        boolean delete = job.getMode() == UserDeletionJob.Mode.DELETE;
+        long lastId = 0;
+        while (true) {
+            List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM support_queries " +
+                            "WHERE user_id = :userId AND id > :lastId " +
+                            (delete ? "" : "AND (description IS NULL OR description <> :removed) ") +
+                            "ORDER BY id LIMIT :limit",
+                    new MapSqlParameterSource("userId", job.getUserId())
+                            .addValue("lastId", lastId)
+                            .addValue("removed", REMOVED)
+                            .addValue("limit", batchSize),
+                    Long.class);
+            if (ids.isEmpty()) {
+                return;
+            }
+            lastId = ids.get(ids.size() - 1);
+
+            MapSqlParameterSource params = new MapSqlParameterSource("ids", ids).addValue("removed", REMOVED);
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(delete
+                    ? "DELETE FROM support_queries WHERE id IN (:ids)"
+                    : "UPDATE support_queries SET description = :removed WHERE id IN (:ids)", params));
+
+            job.setTicketsProcessed(job.getTicketsProcessed() + ids.size());
+            jobRepository.save(job);
+        }
+    }
+
+    private void finishUser(UserDeletionJob job) {
+        MapSqlParameterSource params = new MapSqlParameterSource("userId", job.getUserId());
+        transactionTemplate.executeWithoutResult(status -> {
+            if (job.getMode() == UserDeletionJob.Mode.DELETE) {
+                jdbcTemplate.update("DELETE FROM user_impact_rollups WHERE user_id = :userId", params);
+                jdbcTemplate.update("DELETE FROM users WHERE id = :userId", params);
+            } else {
+                // Impact rollups stay so community totals are unchanged
+                jdbcTemplate.update("UPDATE users SET name = 'Deleted user', email = :email, " +
+                                "phone_number = NULL, address = NULL, status = 'ARCHIVED' WHERE id = :userId",
+                        params.addValue("email", "deleted-" + job.getUserId() + "@deleted.invalid"));
+            }
+        });
+        evictFromSecondLevelCache(job.getUserId());
+    }
+
+    // Plain JDBC writes bypass Hibernate, so the cached users/pickup persons and the cached
+    // lookups by email or user id would keep serving the old rows until they expire
+    private void evictFromSecondLevelCache(Long userId) {
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(User.class, userId);
+        cache.evictEntityData(PickupPerson.class);
+        cache.evictQueryRegions();
+    }
+}
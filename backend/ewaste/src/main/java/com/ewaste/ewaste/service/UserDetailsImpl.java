@@ -16,6 +16,8 @@ public class UserDetailsImpl implements UserDetails {
     private String email;
     @JsonIgnore private String password;
     private Collection<? extends GrantedAuthority> authorities;
+    // The entity this principal was built from, so login needs no second lookup
+    @JsonIgnore private User user;
 
     public UserDetailsImpl(Long id, String name, String email, String password,
                            Collection<? extends GrantedAuthority> authorities) {
@@ -31,9 +33,13 @@ public class UserDetailsImpl implements UserDetails {
         if (user.getRole() != null) {
             authorities.add(new SimpleGrantedAuthority(user.getRole().name()));
         }
-        return new UserDetailsImpl(user.getId(), user.getName(), user.getEmail(), user.getPassword(), authorities);
+        UserDetailsImpl details = new UserDetailsImpl(user.getId(), user.getName(), user.getEmail(), user.getPassword(), authorities);
+        details.user = user;
+        return details;
     }
 
+    public User getUser() { return user; }
+
     @Override public Collection<? extends GrantedAuthority> getAuthorities() { return authorities; }
     @Override public String getPassword() { return password; }
     @Override public String getUsername() { return email; }
@@ -1,12 +1,16 @@
 package com.ewaste.ewaste.service;
 
 import com.ewaste.ewaste.dto.ProfileUpdateRequest;
+import com.ewaste.ewaste.dto.UserProfileResponse;
 import com.ewaste.ewaste.model.PickupPerson;
 import com.ewaste.ewaste.model.User;
 import com.ewaste.ewaste.repository.PickupPersonRepository;
 import com.ewaste.ewaste.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -15,7 +19,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
-public class UserService implements UserDetailsService {
+public class UserService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserRepository userRepository;
     private final PickupPersonRepository pickupPersonRepository;
@@ -29,6 +33,26 @@ public class UserService implements UserDetailsService {
         return UserDetailsImpl.build(user);
     }
 
+    // Called by Spring Security after a successful login whose hash is below the current BCrypt cost
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails details, String newPassword) {
+        userRepository.updatePassword(details.getUsername(), newPassword);
+        User user = ((UserDetailsImpl) details).getUser();
+        user.setPassword(newPassword);
+        return UserDetailsImpl.build(user);
+    }
+
+    // GET /api/user/me; evicted on every profile change
+    @Cacheable(cacheNames = "userProfiles", key = "#email")
+    @Transactional(readOnly = true)
+    public UserProfileResponse getProfile(String email) {
+        User user = userRepository.findByEmail(email)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        return new UserProfileResponse(user);
+    }
+
+    @CacheEvict(cacheNames = "userProfiles", key = "#email")
     @Transactional
     public User updateProfile(String email, ProfileUpdateRequest request) {
         User user = userRepository.findByEmail(email)
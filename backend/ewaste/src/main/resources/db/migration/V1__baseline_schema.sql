@@ -0,0 +1,143 @@
+-- Baseline schema, matching what Hibernate's ddl-auto=update produced for the entity model.
+-- CREATE TABLE IF NOT EXISTS lets databases that were managed by ddl-auto run this script
+-- as-is (spring.flyway.baseline-version=0); secondary indexes are added in V2.
+-- Column types follow Hibernate's MySQL mapping so ddl-auto=validate accepts them:
+-- Instant -> TIMESTAMP(6), LocalDateTime -> DATETIME(6), @Enumerated(STRING) -> ENUM.
+
+CREATE TABLE IF NOT EXISTS users (
+    id            BIGINT       NOT NULL AUTO_INCREMENT,
+    name          VARCHAR(255) NOT NULL,
+    email         VARCHAR(255) NOT NULL,
+    password      VARCHAR(255) NOT NULL,
+    address       VARCHAR(255),
+    phone_number  VARCHAR(255),
+    status        VARCHAR(255) NOT NULL,
+    role          ENUM ('ROLE_USER','ROLE_ADMIN','ROLE_PICKUP_PERSON') NOT NULL,
+    created_at    TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_user_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS pickup_persons (
+    id              BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id         BIGINT       NOT NULL,
+    vehicle_number  VARCHAR(255),
+    is_available    BIT          NOT NULL,
+    created_at      TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_pickup_person_user UNIQUE (user_id),
+    CONSTRAINT fk_pickup_person_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS ewaste_requests (
+    id                         BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id                    BIGINT       NOT NULL,
+    device_type                VARCHAR(255) NOT NULL,
+    brand                      VARCHAR(255),
+    model                      VARCHAR(255),
+    condition_status           ENUM ('WORKING','DAMAGED','DEAD','BROKEN','FOR_PARTS') NOT NULL,
+    quantity                   INT          NOT NULL,
+    image_urls                 TEXT,
+    pickup_address             VARCHAR(255) NOT NULL,
+    remarks                    VARCHAR(255),
+    status                     ENUM ('PENDING','APPROVED','REJECTED','SCHEDULED','COLLECTED','COMPLETED') NOT NULL,
+    rejection_reason           VARCHAR(255),
+    admin_remarks              VARCHAR(255),
+    scheduled_pickup_date      TIMESTAMP(6) NULL,
+    completed_date             TIMESTAMP(6) NULL,
+    assigned_pickup_person_id  BIGINT,
+    created_at                 TIMESTAMP(6) NOT NULL,
+    updated_at                 TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_request_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_request_pickup_person FOREIGN KEY (assigned_pickup_person_id) REFERENCES pickup_persons (id)
+) ENGINE = InnoDB;
+
+-- Partitioned by year at runtime (RequestArchiveService), so no foreign keys
+CREATE TABLE IF NOT EXISTS ewaste_requests_archive (
+    id                         BIGINT       NOT NULL,
+    closed_month               INT          NOT NULL,
+    user_id                    BIGINT       NOT NULL,
+    device_type                VARCHAR(255) NOT NULL,
+    brand                      VARCHAR(255),
+    model                      VARCHAR(255),
+    condition_status           ENUM ('WORKING','DAMAGED','DEAD','BROKEN','FOR_PARTS') NOT NULL,
+    quantity                   INT          NOT NULL,
+    image_urls                 TEXT,
+    pickup_address             VARCHAR(255) NOT NULL,
+    remarks                    VARCHAR(255),
+    status                     ENUM ('PENDING','APPROVED','REJECTED','SCHEDULED','COLLECTED','COMPLETED') NOT NULL,
+    rejection_reason           VARCHAR(255),
+    admin_remarks              VARCHAR(255),
+    scheduled_pickup_date      TIMESTAMP(6) NULL,
+    completed_date             TIMESTAMP(6) NULL,
+    assigned_pickup_person_id  BIGINT,
+    assigned_person_name       VARCHAR(255),
+    created_at                 TIMESTAMP(6) NOT NULL,
+    updated_at                 TIMESTAMP(6) NOT NULL,
+    archived_at                TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id, closed_month)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS support_queries (
+    id                  BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id             BIGINT       NOT NULL,
+    subject             VARCHAR(255),
+    category            VARCHAR(255),
+    description         TEXT,
+    related_request_id  VARCHAR(255),
+    status              VARCHAR(255),
+    admin_reply         TEXT,
+    created_at          DATETIME(6),
+    resolved_at         DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_support_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS daily_reports (
+    id                    BIGINT       NOT NULL AUTO_INCREMENT,
+    pickup_person_id      BIGINT       NOT NULL,
+    report_date           DATE         NOT NULL,
+    start_time            TIME,
+    end_time              TIME,
+    completed_jobs        INT          NOT NULL,
+    collected_jobs        INT          NOT NULL,
+    items_handled         INT          NOT NULL,
+    vehicle_mileage       INT,
+    fuel_cost             DOUBLE,
+    environmental_impact  DOUBLE,
+    issues                TEXT,
+    notes                 TEXT,
+    status                VARCHAR(255) NOT NULL,
+    submitted_at          TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_daily_report_person_date UNIQUE (pickup_person_id, report_date)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS user_impact_rollups (
+    id            BIGINT  NOT NULL AUTO_INCREMENT,
+    user_id       BIGINT  NOT NULL,
+    period_month  INT     NOT NULL,
+    requests      BIGINT  NOT NULL,
+    items         BIGINT  NOT NULL,
+    weight_kg     DOUBLE  NOT NULL,
+    co2_kg        DOUBLE  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_impact_user_period UNIQUE (user_id, period_month)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS user_deletion_jobs (
+    id                  BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id             BIGINT       NOT NULL,
+    mode                ENUM ('DELETE','ANONYMIZE') NOT NULL,
+    status              ENUM ('QUEUED','RUNNING','COMPLETED','FAILED') NOT NULL,
+    requests_total      BIGINT       NOT NULL,
+    requests_processed  BIGINT       NOT NULL,
+    tickets_processed   BIGINT       NOT NULL,
+    files_deleted       BIGINT       NOT NULL,
+    error               VARCHAR(255),
+    created_at          TIMESTAMP(6) NOT NULL,
+    started_at          TIMESTAMP(6) NULL,
+    finished_at         TIMESTAMP(6) NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
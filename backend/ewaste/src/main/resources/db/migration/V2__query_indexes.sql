@@ -0,0 +1,96 @@
+-- Secondary indexes, each derived from the repository queries it serves. Indexes that
+-- ddl-auto=update may already have created are skipped, so the script runs on both fresh
+-- and previously Hibernate-managed databases.
+
+DROP PROCEDURE IF EXISTS add_index_if_missing;
+
+DELIMITER //
+CREATE PROCEDURE add_index_if_missing(IN p_table VARCHAR(64), IN p_index VARCHAR(64), IN p_ddl VARCHAR(1024))
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM information_schema.statistics
+                   WHERE table_schema = DATABASE() AND table_name = p_table AND index_name = p_index) THEN
+        SET @ddl = p_ddl;
+        PREPARE stmt FROM @ddl;
+        EXECUTE stmt;
+        DEALLOCATE PREPARE stmt;
+    END IF;
+END //
+DELIMITER ;
+
+-- ewaste_requests ---------------------------------------------------------------------------
+
+-- findByUserIdOrderByCreatedAtDesc, countByUserId(AndStatus), countUserRequestsByStatus;
+-- also backs fk_request_user
+CALL add_index_if_missing('ewaste_requests', 'idx_request_user_created',
+    'CREATE INDEX idx_request_user_created ON ewaste_requests (user_id, created_at)');
+
+-- findByAssignedPickupPersonId, countByAssignedPickupPersonId, the assignee's open jobs
+-- (PickupPersonRepository.findSummaries) and unassignPickupPerson
+CALL add_index_if_missing('ewaste_requests', 'idx_request_assignee_status',
+    'CREATE INDEX idx_request_assignee_status ON ewaste_requests (assigned_pickup_person_id, status)');
+
+-- countClosedJobs and dailyCompletions: one assignee's completions in a date range
+CALL add_index_if_missing('ewaste_requests', 'idx_request_assignee_completed',
+    'CREATE INDEX idx_request_assignee_completed ON ewaste_requests (assigned_pickup_person_id, completed_date)');
+
+-- countRequestsByStatus and status-filtered admin lists ordered by created_at. Its status prefix
+-- serves plain status lookups, so there is no separate single-column status index.
+CALL add_index_if_missing('ewaste_requests', 'idx_request_status_created',
+    'CREATE INDEX idx_request_status_created ON ewaste_requests (status, created_at)');
+
+-- pickupPerformanceForAll: status = COMPLETED within a completion-date range
+CALL add_index_if_missing('ewaste_requests', 'idx_request_status_completed',
+    'CREATE INDEX idx_request_status_completed ON ewaste_requests (status, completed_date)');
+
+-- RequestArchiveService candidate scan: closed statuses not updated since the cutoff
+CALL add_index_if_missing('ewaste_requests', 'idx_request_status_updated',
+    'CREATE INDEX idx_request_status_updated ON ewaste_requests (status, updated_at)');
+
+CALL add_index_if_missing('ewaste_requests', 'ft_request_text',
+    'ALTER TABLE ewaste_requests ADD FULLTEXT INDEX ft_request_text (brand, model, device_type, pickup_address, remarks)');
+
+-- ewaste_requests_archive -------------------------------------------------------------------
+
+-- ArchivedRequestRepository.findByUserIdOrderByCreatedAtDesc and the per-user counts
+CALL add_index_if_missing('ewaste_requests_archive', 'idx_archive_user_created',
+    'CREATE INDEX idx_archive_user_created ON ewaste_requests_archive (user_id, created_at)');
+
+-- support_queries ---------------------------------------------------------------------------
+
+-- findViewsByUserEmail (my tickets, newest first); also backs fk_support_user
+CALL add_index_if_missing('support_queries', 'idx_support_user_created',
+    'CREATE INDEX idx_support_user_created ON support_queries (user_id, created_at)');
+
+-- Admin queue: findQueue filtered by status, ordered by created_at
+CALL add_index_if_missing('support_queries', 'idx_support_status_created',
+    'CREATE INDEX idx_support_status_created ON support_queries (status, created_at)');
+
+CALL add_index_if_missing('support_queries', 'ft_support_subject_description',
+    'ALTER TABLE support_queries ADD FULLTEXT INDEX ft_support_subject_description (subject, description)');
+
+-- users -------------------------------------------------------------------------------------
+
+-- User directory: name prefix search and sort
+CALL add_index_if_missing('users', 'idx_user_name',
+    'CREATE INDEX idx_user_name ON users (name)');
+
+-- User directory role/status filters and countByRoleAndStatus
+CALL add_index_if_missing('users', 'idx_user_role_status',
+    'CREATE INDEX idx_user_role_status ON users (role, status)');
+
+CALL add_index_if_missing('users', 'ft_user_name_email',
+    'ALTER TABLE users ADD FULLTEXT INDEX ft_user_name_email (name, email)');
+
+-- pickup_persons ----------------------------------------------------------------------------
+
+-- findSummaries(available) for the schedule picker
+CALL add_index_if_missing('pickup_persons', 'idx_pickup_person_available',
+    'CREATE INDEX idx_pickup_person_available ON pickup_persons (is_available)');
+
+-- user_deletion_jobs ------------------------------------------------------------------------
+
+-- existsByUserIdAndStatusIn
+CALL add_index_if_missing('user_deletion_jobs', 'idx_deletion_job_user',
+    'CREATE INDEX idx_deletion_job_user ON user_deletion_jobs (user_id)');
+
+DROP PROCEDURE add_index_if_missing;
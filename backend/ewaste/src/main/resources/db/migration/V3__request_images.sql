@@ -0,0 +1,47 @@
+-- Request photos move from the comma-separated image_urls column into one row per image.
+-- request_id has no foreign key: rows stay valid when a request moves to the (partitioned,
+-- constraint-free) archive table.
+
+CREATE TABLE IF NOT EXISTS request_images (
+    id             BIGINT       NOT NULL AUTO_INCREMENT,
+    request_id     BIGINT       NOT NULL,
+    sort_order     INT          NOT NULL,
+    url            VARCHAR(512) NOT NULL,
+    content_hash   VARCHAR(64),
+    size_bytes     BIGINT,
+    width          INT,
+    height         INT,
+    content_type   VARCHAR(255),
+    thumbnail_url  VARCHAR(512),
+    medium_url     VARCHAR(512),
+    created_at     TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id),
+    -- RequestImageRepository.findByRequestIdOrderBySortOrderAsc
+    CONSTRAINT uk_request_image_order UNIQUE (request_id, sort_order),
+    -- Duplicate-upload lookups by content hash
+    INDEX idx_request_image_hash (content_hash)
+) ENGINE = InnoDB;
+
+-- Backfill: split each image_urls list on commas, keeping upload order. Hash, size and
+-- dimensions of these older uploads are unknown and stay NULL.
+INSERT INTO request_images (request_id, sort_order, url, created_at)
+WITH RECURSIVE split (request_id, n, url, rest, created_at) AS (
+    SELECT id, 0, TRIM(SUBSTRING_INDEX(image_urls, ',', 1)),
+           IF(LOCATE(',', image_urls) > 0, SUBSTRING(image_urls, LOCATE(',', image_urls) + 1), NULL),
+           created_at
+    FROM (SELECT id, image_urls, created_at FROM ewaste_requests WHERE image_urls IS NOT NULL AND image_urls <> ''
+          UNION ALL
+          SELECT id, image_urls, created_at FROM ewaste_requests_archive WHERE image_urls IS NOT NULL AND image_urls <> '') r
+    UNION ALL
+    SELECT request_id, n + 1, TRIM(SUBSTRING_INDEX(rest, ',', 1)),
+           IF(LOCATE(',', rest) > 0, SUBSTRING(rest, LOCATE(',', rest) + 1), NULL),
+           created_at
+    FROM split
+    WHERE rest IS NOT NULL
+)
+SELECT request_id, ROW_NUMBER() OVER (PARTITION BY request_id ORDER BY n) - 1, url, created_at
+FROM split
+WHERE url <> '';
+
+ALTER TABLE ewaste_requests DROP COLUMN image_urls;
+ALTER TABLE ewaste_requests_archive DROP COLUMN image_urls;
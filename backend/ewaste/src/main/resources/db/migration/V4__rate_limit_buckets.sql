@@ -0,0 +1,10 @@
+-- Shared token buckets for JdbcRateLimitStore (app.rate-limit.store=jdbc). full_at is the
+-- epoch millisecond at which the bucket is full again; rows past it are deleted periodically.
+
+CREATE TABLE IF NOT EXISTS rate_limit_buckets (
+    bucket_key  VARCHAR(320) NOT NULL,
+    full_at     BIGINT       NOT NULL,
+    PRIMARY KEY (bucket_key),
+    -- JdbcRateLimitStore.removeFullBuckets
+    INDEX idx_rate_limit_full_at (full_at)
+) ENGINE = InnoDB;
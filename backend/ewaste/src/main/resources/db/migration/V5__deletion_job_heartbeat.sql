@@ -0,0 +1,5 @@
+-- Lets another instance take over a user deletion job whose holder stopped (UserDeletionService.reclaimStaleJobs)
+
+ALTER TABLE user_deletion_jobs ADD COLUMN heartbeat_at TIMESTAMP(6) NULL;
+UPDATE user_deletion_jobs SET heartbeat_at = COALESCE(finished_at, started_at, created_at);
+ALTER TABLE user_deletion_jobs MODIFY heartbeat_at TIMESTAMP(6) NOT NULL;
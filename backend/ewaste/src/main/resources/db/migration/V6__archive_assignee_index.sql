@@ -0,0 +1,4 @@
+-- Pickup performance KPIs read completed pickups from the archive as well
+-- (EwasteRequestRepository.COMPLETED_PICKUPS)
+
+CREATE INDEX idx_archive_assignee_completed ON ewaste_requests_archive (assigned_pickup_person_id, completed_date);
@@ -0,0 +1,9 @@
+-- When a pickup person marked the request COLLECTED (DailyReportService counts collected jobs by it)
+
+ALTER TABLE ewaste_requests ADD COLUMN collected_date TIMESTAMP(6) NULL;
+
+-- Best estimate for requests collected before the column existed
+UPDATE ewaste_requests SET collected_date = updated_at WHERE status = 'COLLECTED';
+
+-- EwasteRequestRepository.countClosedJobs
+CREATE INDEX idx_request_assignee_collected ON ewaste_requests (assigned_pickup_person_id, collected_date);
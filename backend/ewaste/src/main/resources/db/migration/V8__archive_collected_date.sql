@@ -0,0 +1,3 @@
+-- Archived requests keep their collection date, which ImpactService.rebuildRollups buckets by
+
+ALTER TABLE ewaste_requests_archive ADD COLUMN collected_date TIMESTAMP(6) NULL;
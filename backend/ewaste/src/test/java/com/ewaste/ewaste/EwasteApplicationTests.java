@@ -2,8 +2,11 @@ package com.ewaste.ewaste;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
+// Embedded database; the default profile needs the MySQL settings from the environment
 @SpringBootTest
+@ActiveProfiles("loadtest")
 class EwasteApplicationTests {
 
     @Test
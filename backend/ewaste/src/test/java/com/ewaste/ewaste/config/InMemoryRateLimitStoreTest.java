@@ -0,0 +1,54 @@
+package com.ewaste.ewaste.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InMemoryRateLimitStoreTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000);
+    private final InMemoryRateLimitStore store = new InMemoryRateLimitStore(now::get);
+    // 3 calls per 3 seconds: one token per second, bursts of 3
+    private final RateLimitProperties.Bucket bucket = new RateLimitProperties.Bucket(3, Duration.ofSeconds(3));
+
+    @Test
+    void allowsBurstUpToCapacityThenReportsWait() {
+        assertEquals(0, store.tryConsume("k", bucket));
+        assertEquals(0, store.tryConsume("k", bucket));
+        assertEquals(0, store.tryConsume("k", bucket));
+        assertEquals(1000, store.tryConsume("k", bucket));
+    }
+
+    @Test
+    void refillsOneTokenPerInterval() {
+        for (int i = 0; i < 3; i++) {
+            store.tryConsume("k", bucket);
+        }
+        now.addAndGet(400);
+        assertEquals(600, store.tryConsume("k", bucket));
+
+        now.addAndGet(600);
+        assertEquals(0, store.tryConsume("k", bucket));
+        assertEquals(1000, store.tryConsume("k", bucket));
+    }
+
+    @Test
+    void rejectedCallsDoNotUseTokens() {
+        for (int i = 0; i < 10; i++) {
+            store.tryConsume("k", bucket);
+        }
+        now.addAndGet(1000);
+        assertEquals(0, store.tryConsume("k", bucket));
+    }
+
+    @Test
+    void bucketsAreIndependentPerKey() {
+        for (int i = 0; i < 3; i++) {
+            store.tryConsume("user:a", bucket);
+        }
+        assertEquals(0, store.tryConsume("user:b", bucket));
+    }
+}
@@ -0,0 +1,50 @@
+package com.ewaste.ewaste.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * Behind the load balancer every request arrives from the proxy's address; the login bucket has
+ * to follow the client named in X-Forwarded-For. The test client connects from 127.0.0.1, which
+ * Tomcat trusts as an internal proxy.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "app.rate-limit.enabled=true",
+        "app.rate-limit.auth.capacity=2"
+})
+@ActiveProfiles("loadtest")
+class RateLimitForwardedForTest {
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Test
+    void forwardedClientsGetSeparateLoginBuckets() {
+        assertNotEquals(HttpStatus.TOO_MANY_REQUESTS, login("203.0.113.10"));
+        assertNotEquals(HttpStatus.TOO_MANY_REQUESTS, login("203.0.113.10"));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, login("203.0.113.10"));
+
+        assertNotEquals(HttpStatus.TOO_MANY_REQUESTS, login("203.0.113.20"));
+    }
+
+    private HttpStatus login(String clientIp) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("X-Forwarded-For", clientIp);
+        Map<String, String> body = Map.of("email", "nobody@test.local", "password", "wrong");
+        return HttpStatus.valueOf(rest.postForEntity("/api/auth/login", new HttpEntity<>(body, headers), String.class)
+                .getStatusCode().value());
+    }
+}
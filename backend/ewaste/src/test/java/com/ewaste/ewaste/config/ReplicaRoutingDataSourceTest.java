@@ -0,0 +1,96 @@
+package com.ewaste.ewaste.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Routes against two embedded H2 databases standing in for the primary and a replica. Each
+ * holds a single row naming itself, so a query shows which one served it.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private JdbcTemplate replicaAdmin;
+    private ReplicaRoutingDataSource routing;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource primary = database("primary");
+        DriverManagerDataSource replica = database("replica");
+        replicaAdmin = new JdbcTemplate(replica);
+        replicaAdmin.execute("CREATE TABLE replica_lag (seconds BIGINT)");
+        replicaAdmin.update("INSERT INTO replica_lag VALUES (0)");
+
+        routing = new ReplicaRoutingDataSource(primary, Map.of("replica-1", replica), 5,
+                "SELECT seconds FROM replica_lag");
+        routing.checkReplicas();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReplicaRoutingDataSource.clearRoute();
+    }
+
+    @Test
+    void readOnlyTransactionsUseTheReplica() {
+        assertEquals("replica", readOnly.execute(status -> servedBy()));
+        assertEquals("primary", readWrite.execute(status -> servedBy()));
+        assertEquals("primary", servedBy());
+    }
+
+    @Test
+    void laggingReplicaFallsBackToThePrimary() {
+        replicaAdmin.update("UPDATE replica_lag SET seconds = 60");
+        routing.checkReplicas();
+        assertFalse(routing.isReplicaHealthy("replica-1"));
+        assertEquals("primary", readOnly.execute(status -> servedBy()));
+
+        replicaAdmin.update("UPDATE replica_lag SET seconds = 1");
+        routing.checkReplicas();
+        assertEquals("replica", readOnly.execute(status -> servedBy()));
+    }
+
+    @Test
+    void pinnedRoutesOverrideTheDefault() {
+        ReplicaRoutingDataSource.setRoute(ReplicaRoutingDataSource.Route.REPLICA);
+        assertEquals("replica", servedBy());
+        assertEquals("primary", readWrite.execute(status -> servedBy()));
+
+        ReplicaRoutingDataSource.setRoute(ReplicaRoutingDataSource.Route.PRIMARY);
+        assertEquals("primary", readOnly.execute(status -> servedBy()));
+    }
+
+    private String servedBy() {
+        return jdbcTemplate.queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private static DriverManagerDataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node VALUES (?)", name);
+        return dataSource;
+    }
+}
@@ -0,0 +1,80 @@
+package com.ewaste.ewaste.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Login (login pool) and the streamed request list (MVC async thread) do their queries off the
+ * request thread; each must still be recorded once, with those statements included. Runs in its
+ * own context so the login is not answered from a second-level cache warmed by other tests.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.sql.statement-budget=1")
+@ActiveProfiles("loadtest")
+class SqlStatementBudgetAsyncTest {
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void asyncRequestsAreRecordedOnceWithTheirStatements() throws Exception {
+        Snapshot login = snapshot("/api/auth/login", "POST");
+        ResponseEntity<String> loginResponse = rest.postForEntity("/api/auth/login",
+                Map.of("email", "admin@ewaste.com", "password", "admin123"), String.class);
+        assertEquals(HttpStatus.OK, loginResponse.getStatusCode());
+        assertRecordedOnceWithStatements(login);
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(objectMapper.readTree(loginResponse.getBody()).get("accessToken").asText());
+        Snapshot list = snapshot("/api/requests", "GET");
+        ResponseEntity<String> listResponse = rest.exchange("/api/requests", HttpMethod.GET,
+                new HttpEntity<>(headers), String.class);
+        assertEquals(HttpStatus.OK, listResponse.getStatusCode());
+        assertRecordedOnceWithStatements(list);
+    }
+
+    // The async dispatch records after the response is written, so allow it a moment
+    private void assertRecordedOnceWithStatements(Snapshot before) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (snapshot(before.uri, before.method).count == before.count && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        Snapshot after = snapshot(before.uri, before.method);
+        assertEquals(before.count + 1, after.count);
+        assertTrue(after.statements > before.statements,
+                before.method + " " + before.uri + " was recorded without its statements");
+    }
+
+    private Snapshot snapshot(String uri, String method) {
+        DistributionSummary summary = meterRegistry.find("ewaste.sql.statements")
+                .tags("uri", uri, "method", method).summary();
+        return summary == null ? new Snapshot(uri, method, 0, 0)
+                : new Snapshot(uri, method, summary.count(), summary.totalAmount());
+    }
+
+    private record Snapshot(String uri, String method, long count, double statements) {
+    }
+}
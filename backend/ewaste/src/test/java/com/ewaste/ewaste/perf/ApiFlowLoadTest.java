@@ -0,0 +1,229 @@
+package com.ewaste.ewaste.perf;
+
+import com.ewaste.ewaste.model.EwasteRequest;
+import com.ewaste.ewaste.model.User;
+import com.ewaste.ewaste.repository.EwasteRequestRepository;
+import com.ewaste.ewaste.repository.PickupPersonRepository;
+import com.ewaste.ewaste.repository.SupportQueryRepository;
+import com.ewaste.ewaste.repository.UserRepository;
+import com.ewaste.ewaste.security.JwtTokenProvider;
+import com.ewaste.ewaste.service.UserDetailsImpl;
+import org.junit.jupiter.api.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * End-to-end performance suite for the main REST flows. Seeds realistic volumes through
+ * {@link PerfDataGenerator}, then runs each flow with {@code perf.clients} concurrent clients
+ * and writes throughput, p50/p99, allocation and peak connection-pool figures to build/reports/load.
+ */
+@Tag("load")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ApiFlowLoadTest {
+
+    private static final Pattern OTP = Pattern.compile("verification code is: (\\d{6})");
+
+    @LocalServerPort private int port;
+
+    @Autowired private UserRepository userRepository;
+    @Autowired private PickupPersonRepository pickupPersonRepository;
+    @Autowired private EwasteRequestRepository requestRepository;
+    @Autowired private SupportQueryRepository supportQueryRepository;
+    @Autowired private PasswordEncoder passwordEncoder;
+    @Autowired private JwtTokenProvider tokenProvider;
+    @Autowired private CapturingMailSender mailSender;
+    @Autowired private DataSource dataSource;
+
+    private final int clients = Integer.getInteger("perf.clients", 50);
+    private PerfDataGenerator data;
+    private LoadTestClient client;
+    private String adminToken;
+    private List<String> userTokens;
+    private List<String> pickupTokens;
+    private PoolSampler poolSampler;
+
+    @BeforeAll
+    void seed() throws Exception {
+        data = new PerfDataGenerator(userRepository, pickupPersonRepository, requestRepository,
+                supportQueryRepository, passwordEncoder);
+        data.seed();
+
+        client = new LoadTestClient(port);
+        adminToken = client.login("admin@ewaste.com", "admin123");
+        userTokens = data.users.stream().limit(clients).map(this::tokenFor).collect(Collectors.toList());
+        pickupTokens = data.pickupPersons.stream().map(p -> tokenFor(p.getUser())).collect(Collectors.toList());
+    }
+
+    @BeforeEach
+    void startPoolSampler() throws Exception {
+        poolSampler = PoolSampler.start(dataSource);
+    }
+
+    @AfterEach
+    void stopPoolSampler() throws Exception {
+        poolSampler.close();
+    }
+
+    @Test
+    @Order(1)
+    void login() throws Exception {
+        assertClean(ScenarioRunner.run("login", clients, 10, (c, i) -> client.loginStatus(
+                data.users.get((c + i * clients) % data.users.size()).getEmail(), PerfDataGenerator.PASSWORD) == 200));
+    }
+
+    @Test
+    @Order(2)
+    void createRequestWithImages() throws Exception {
+        Random random = new Random(7);
+        List<byte[]> images = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            byte[] image = new byte[64 * 1024];
+            random.nextBytes(image);
+            images.add(image);
+        }
+        Map<String, String> form = Map.of(
+                "deviceType", "Laptop",
+                "brand", "Dell",
+                "model", "Latitude 5400",
+                "condition", "DAMAGED",
+                "quantity", "1",
+                "pickupAddress", "12 Green Street",
+                "remarks", "Battery swollen");
+
+        assertClean(ScenarioRunner.run("create-request", clients, 10,
+                (c, i) -> client.postMultipart("/api/requests", userTokens.get(c), form, images) == 200));
+    }
+
+    @Test
+    @Order(3)
+    void adminRequestList() throws Exception {
+        int listClients = Math.min(clients, 10);
+        assertClean(ScenarioRunner.run("admin-request-list", listClients, 5,
+                (c, i) -> client.getStatus("/api/requests", adminToken) == 200));
+    }
+
+    @Test
+    @Order(4)
+    void schedulePickup() throws Exception {
+        List<EwasteRequest> approved = data.approvedRequests;
+        int calls = Math.min(20, approved.size() / clients);
+        String pickupDate = Instant.now().plus(2, ChronoUnit.DAYS).truncatedTo(ChronoUnit.SECONDS).toString();
+
+        assertClean(ScenarioRunner.run("schedule-pickup", clients, calls, (c, i) -> {
+            EwasteRequest request = approved.get(c + i * clients);
+            Long personId = data.pickupPersons.get((c + i) % data.pickupPersons.size()).getId();
+            return client.putJson("/api/requests/" + request.getId() + "/schedule", adminToken,
+                    "{\"pickupDate\":\"" + pickupDate + "\",\"pickupPersonId\":" + personId + "}") == 200;
+        }));
+    }
+
+    @Test
+    @Order(5)
+    void otpVerifyAndComplete() throws Exception {
+        // OTP mails are captured per customer, so one customer's requests never run on two clients at once
+        Map<Long, List<EwasteRequest>> byCustomer = data.scheduledRequests.stream()
+                .collect(Collectors.groupingBy(r -> r.getUser().getId(), LinkedHashMap::new, Collectors.toList()));
+        List<List<EwasteRequest>> queues = new ArrayList<>();
+        for (int c = 0; c < clients; c++) {
+            queues.add(new ArrayList<>());
+        }
+        int next = 0;
+        for (List<EwasteRequest> requests : byCustomer.values()) {
+            queues.get(next++ % clients).addAll(requests);
+        }
+        int calls = Math.min(20, queues.stream().mapToInt(List::size).min().orElse(0));
+
+        assertClean(ScenarioRunner.run("otp-complete", clients, calls, (c, i) -> {
+            EwasteRequest request = queues.get(c).get(i);
+            String token = pickupTokens.get(c % pickupTokens.size());
+            if (client.post("/api/pickup/request/" + request.getId() + "/initiate-verification", token) != 200) {
+                return false;
+            }
+            String otp = mailSender.lastOtpFor(request.getUser().getEmail());
+            return client.post("/api/pickup/request/" + request.getId() + "/verify-complete?otp=" + otp, token) == 200;
+        }));
+    }
+
+    @Test
+    @Order(6)
+    void requestStats() throws Exception {
+        assertClean(ScenarioRunner.run("stats", clients, 20, (c, i) -> i % 2 == 0
+                ? client.getStatus("/api/user/my-stats/requests-by-status", userTokens.get(c)) == 200
+                : client.getStatus("/api/requests/dashboard/stats", adminToken) == 200));
+    }
+
+    @Test
+    @Order(7)
+    void certificate() throws Exception {
+        List<String> certifiedTokens = data.certifiedUsers.stream().map(this::tokenFor).collect(Collectors.toList());
+        assertClean(ScenarioRunner.run("certificate", clients, 10, (c, i) -> client.getStatus(
+                "/api/user/certificate/generate", certifiedTokens.get((c + i) % certifiedTokens.size())) == 200));
+    }
+
+    private String tokenFor(User user) {
+        UserDetailsImpl principal = UserDetailsImpl.build(user);
+        return tokenProvider.generateJwtToken(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private void assertClean(LoadReport report) throws Exception {
+        poolSampler.addTo(report);
+        report.write(report.summary().get("scenario") + ".json");
+        assertEquals(0, report.errors(), "Some calls failed under load");
+    }
+
+    @TestConfiguration
+    static class MailCaptureConfig {
+        @Bean
+        CapturingMailSender capturingMailSender() {
+            return new CapturingMailSender();
+        }
+    }
+
+    /** Swallows outgoing mail and remembers the last OTP sent to each address. */
+    static class CapturingMailSender extends JavaMailSenderImpl {
+
+        private final Map<String, String> otpByEmail = new ConcurrentHashMap<>();
+
+        @Override
+        public void send(SimpleMailMessage simpleMessage) {
+            Matcher matcher = OTP.matcher(Objects.requireNonNullElse(simpleMessage.getText(), ""));
+            if (matcher.find() && simpleMessage.getTo() != null) {
+                otpByEmail.put(simpleMessage.getTo()[0], matcher.group(1));
+            }
+        }
+
+        @Override
+        public void send(SimpleMailMessage... simpleMessages) {
+            for (SimpleMailMessage message : simpleMessages) {
+                send(message);
+            }
+        }
+
+        String lastOtpFor(String email) {
+            return otpByEmail.get(email);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.ewaste.ewaste.perf;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Collects per-call latencies for one scenario and writes a summary (throughput, p50, p99)
+ * into the directory given by the {@code loadtest.reportDir} system property.
+ */
+class LoadReport {
+
+    private final String scenario;
+    private final long[] latenciesNanos;
+    private final Map<String, Object> extra = new LinkedHashMap<>();
+    private int count;
+    private int errors;
+    private long elapsedNanos;
+
+    LoadReport(String scenario, int expectedCalls) {
+        this.scenario = scenario;
+        this.latenciesNanos = new long[expectedCalls];
+    }
+
+    synchronized void record(long latencyNanos, boolean success) {
+        if (!success) {
+            errors++;
+        }
+        if (count < latenciesNanos.length) {
+            latenciesNanos[count++] = latencyNanos;
+        }
+    }
+
+    void finish(long elapsedNanos) {
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    void put(String key, Object value) {
+        extra.put(key, value);
+    }
+
+    int errors() {
+        return errors;
+    }
+
+    double throughputPerSecond() {
+        return elapsedNanos == 0 ? 0 : count / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    double percentileMillis(double percentile) {
+        if (count == 0) {
+            return 0;
+        }
+        long[] sorted = Arrays.copyOf(latenciesNanos, count);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+        return sorted[Math.max(0, Math.min(index, count - 1))] / 1_000_000.0;
+    }
+
+    Map<String, Object> summary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("scenario", scenario);
+        summary.put("calls", count);
+        summary.put("errors", errors);
+        summary.put("throughputPerSec", round(throughputPerSecond()));
+        summary.put("p50Ms", round(percentileMillis(50)));
+        summary.put("p99Ms", round(percentileMillis(99)));
+        summary.putAll(extra);
+        return summary;
+    }
+
+    /** Writes the summary as a flat JSON object and echoes it to stdout. */
+    void write(String fileName) throws IOException {
+        String json = summary().entrySet().stream()
+                .map(e -> "  \"" + e.getKey() + "\": " + (e.getValue() instanceof String
+                        ? "\"" + e.getValue() + "\"" : e.getValue()))
+                .collect(Collectors.joining(",\n", "{\n", "\n}\n"));
+        System.out.print(json);
+
+        Path dir = Path.of(System.getProperty("loadtest.reportDir", "build/reports/load"));
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve(fileName), json);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100.0) / 100.0;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.ewaste.ewaste.perf;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Small HTTP helpers shared by the load tests.
+ */
+final class LoadTestClient {
+
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+
+    private final HttpClient http;
+    private final int port;
+    private final String baseUrl;
+
+    LoadTestClient(int port) {
+        this.http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+        this.port = port;
+        this.baseUrl = "http://localhost:" + port;
+    }
+
+    static String login(HttpClient http, int port, String email, String password)
+            throws IOException, InterruptedException {
+        HttpResponse<String> response = http.send(loginRequest("http://localhost:" + port, email, password),
+                HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = ACCESS_TOKEN.matcher(response.body());
+        if (response.statusCode() != 200 || !matcher.find()) {
+            throw new IllegalStateException("Login failed for " + email + ": " + response.statusCode());
+        }
+        return matcher.group(1);
+    }
+
+    String login(String email, String password) throws IOException, InterruptedException {
+        return login(http, port, email, password);
+    }
+
+    int loginStatus(String email, String password) throws IOException, InterruptedException {
+        return http.send(loginRequest(baseUrl, email, password), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    HttpResponse<String> get(String path, String token) throws IOException, InterruptedException {
+        return http.send(authorized(path, token).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    /** GET that drains the body without keeping it, for large list and PDF responses. */
+    int getStatus(String path, String token) throws IOException, InterruptedException {
+        return http.send(authorized(path, token).GET().build(), HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    int putJson(String path, String token, String json) throws IOException, InterruptedException {
+        HttpRequest request = authorized(path, token)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(json))
+                .build();
+        return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    int post(String path, String token) throws IOException, InterruptedException {
+        HttpRequest request = authorized(path, token).POST(HttpRequest.BodyPublishers.noBody()).build();
+        return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    /** Posts a multipart form with text fields and {@code images} as jpeg parts. */
+    int postMultipart(String path, String token, Map<String, String> fields, List<byte[]> images)
+            throws IOException, InterruptedException {
+        String boundary = "----perf" + UUID.randomUUID();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            write(body, "--" + boundary + "\r\nContent-Disposition: form-data; name=\"" + field.getKey()
+                    + "\"\r\n\r\n" + field.getValue() + "\r\n");
+        }
+        for (int i = 0; i < images.size(); i++) {
+            write(body, "--" + boundary + "\r\nContent-Disposition: form-data; name=\"images\"; filename=\"photo"
+                    + i + ".jpg\"\r\nContent-Type: image/jpeg\r\n\r\n");
+            body.write(images.get(i));
+            write(body, "\r\n");
+        }
+        write(body, "--" + boundary + "--\r\n");
+
+        HttpRequest request = authorized(path, token)
+                .header("Content-Type", "multipart/form-data; boundary=" + boundary)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+        return http.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    private HttpRequest.Builder authorized(String path, String token) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(120));
+    }
+
+    private static HttpRequest loginRequest(String baseUrl, String email, String password) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"email\":\"" + email + "\",\"password\":\"" + password + "\"}"))
+                .build();
+    }
+
+    private static void write(ByteArrayOutputStream out, String text) {
+        out.writeBytes(text.getBytes(StandardCharsets.UTF_8));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,172 @@
+package com.ewaste.ewaste.perf;
+
+import com.ewaste.ewaste.model.*;
+import com.ewaste.ewaste.repository.EwasteRequestRepository;
+import com.ewaste.ewaste.repository.PickupPersonRepository;
+import com.ewaste.ewaste.repository.SupportQueryRepository;
+import com.ewaste.ewaste.repository.UserRepository;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds realistic volumes of users, pickup persons, requests and support tickets for the
+ * load tests, the same way {@code DataSeeder} creates the default accounts. Volumes come
+ * from {@code perf.*} system properties so bigger runs don't need code changes.
+ */
+class PerfDataGenerator {
+
+    static final String PASSWORD = "perf123";
+
+    private static final String[] DEVICE_TYPES = {"Laptop", "Mobile", "Tablet", "Monitor", "Printer", "Television", "Battery"};
+    private static final String[] BRANDS = {"Dell", "HP", "Lenovo", "Samsung", "Apple", "LG", "Sony"};
+    private static final String[] CATEGORIES = {"Pickup", "Account", "Certificate", "Other"};
+
+    private final UserRepository userRepository;
+    private final PickupPersonRepository pickupPersonRepository;
+    private final EwasteRequestRepository requestRepository;
+    private final SupportQueryRepository supportQueryRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final Random random = new Random(42);
+
+    final int userCount = Integer.getInteger("perf.users", 1000);
+    final int requestsPerUser = Integer.getInteger("perf.requestsPerUser", 8);
+    final int pickupPersonCount = Integer.getInteger("perf.pickupPersons", 25);
+    final int ticketsPerUser = Integer.getInteger("perf.ticketsPerUser", 1);
+
+    /** Users with enough completed requests to download a certificate. */
+    final List<User> certifiedUsers = new ArrayList<>();
+    final List<User> users = new ArrayList<>();
+    final List<PickupPerson> pickupPersons = new ArrayList<>();
+    final List<EwasteRequest> approvedRequests = new ArrayList<>();
+    final List<EwasteRequest> scheduledRequests = new ArrayList<>();
+
+    PerfDataGenerator(UserRepository userRepository, PickupPersonRepository pickupPersonRepository,
+                      EwasteRequestRepository requestRepository, SupportQueryRepository supportQueryRepository,
+                      PasswordEncoder passwordEncoder) {
+        this.userRepository = userRepository;
+        this.pickupPersonRepository = pickupPersonRepository;
+        this.requestRepository = requestRepository;
+        this.supportQueryRepository = supportQueryRepository;
+        this.passwordEncoder = passwordEncoder;
+    }
+
+    void seed() {
+        // BCrypt is deliberately slow; hash once and share it across generated accounts
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+
+        List<User> pickupUsers = new ArrayList<>();
+        for (int i = 0; i < pickupPersonCount; i++) {
+            User user = new User("Pickup Person " + i, "pickup" + i + "@perf.test", passwordHash);
+            user.setRole(Role.ROLE_PICKUP_PERSON);
+            user.setPhoneNumber("90000" + String.format("%05d", i));
+            pickupUsers.add(user);
+        }
+        userRepository.saveAll(pickupUsers);
+        for (User user : pickupUsers) {
+            PickupPerson person = new PickupPerson();
+            person.setUser(user);
+            person.setVehicleNumber("PERF-" + user.getId());
+            pickupPersons.add(person);
+        }
+        pickupPersonRepository.saveAll(pickupPersons);
+
+        for (int i = 0; i < userCount; i++) {
+            User user = new User("Perf User " + i, "user" + i + "@perf.test", passwordHash);
+            user.setRole(Role.ROLE_USER);
+            user.setPhoneNumber("80000" + String.format("%05d", i));
+            user.setAddress(i + " Green Street, Sector " + (i % 40));
+            users.add(user);
+        }
+        userRepository.saveAll(users);
+
+        List<EwasteRequest> requests = new ArrayList<>();
+        List<SupportQuery> tickets = new ArrayList<>();
+        for (int u = 0; u < users.size(); u++) {
+            User user = users.get(u);
+            // Every 20th user has a long history so the certificate flow has someone to serve
+            boolean certified = u % 20 == 0;
+            int count = certified ? Math.max(requestsPerUser, 12) : requestsPerUser;
+            for (int r = 0; r < count; r++) {
+                RequestStatus status = certified && r < 10 ? RequestStatus.COMPLETED : randomStatus();
+                requests.add(newRequest(user, status));
+            }
+            if (certified) {
+                certifiedUsers.add(user);
+            }
+            for (int t = 0; t < ticketsPerUser; t++) {
+                tickets.add(newTicket(user));
+            }
+        }
+        requestRepository.saveAll(requests);
+        supportQueryRepository.saveAll(tickets);
+
+        for (EwasteRequest request : requests) {
+            if (request.getStatus() == RequestStatus.APPROVED) {
+                approvedRequests.add(request);
+            } else if (request.getStatus() == RequestStatus.SCHEDULED) {
+                scheduledRequests.add(request);
+            }
+        }
+    }
+
+    private RequestStatus randomStatus() {
+        int roll = random.nextInt(100);
+        if (roll < 25) return RequestStatus.PENDING;
+        if (roll < 55) return RequestStatus.APPROVED;
+        if (roll < 65) return RequestStatus.REJECTED;
+        if (roll < 80) return RequestStatus.SCHEDULED;
+        if (roll < 85) return RequestStatus.COLLECTED;
+        return RequestStatus.COMPLETED;
+    }
+
+    private EwasteRequest newRequest(User user, RequestStatus status) {
+        Instant createdAt = Instant.now().minus(Duration.ofDays(random.nextInt(365)));
+        EwasteRequest request = new EwasteRequest();
+        request.setUser(user);
+        request.setDeviceType(DEVICE_TYPES[random.nextInt(DEVICE_TYPES.length)]);
+        request.setBrand(BRANDS[random.nextInt(BRANDS.length)]);
+        request.setModel("Model " + random.nextInt(500));
+        request.setConditionStatus(ConditionStatus.values()[random.nextInt(ConditionStatus.values().length)]);
+        request.setQuantity(1 + random.nextInt(3));
+        request.setPickupAddress(user.getAddress());
+        request.setRemarks(random.nextBoolean() ? "Please call before arriving" : null);
+        request.setStatus(status);
+        request.setCreatedAt(createdAt);
+        request.setUpdatedAt(createdAt);
+
+        if (status == RequestStatus.REJECTED) {
+            request.setRejectionReason("Item not accepted for recycling");
+        }
+        if (status == RequestStatus.SCHEDULED || status == RequestStatus.COLLECTED || status == RequestStatus.COMPLETED) {
+            Instant scheduled = createdAt.plus(Duration.ofDays(1 + random.nextInt(5)));
+            request.setAssignedPickupPerson(pickupPersons.get(random.nextInt(pickupPersons.size())));
+            request.setScheduledPickupDate(scheduled);
+            if (status == RequestStatus.COMPLETED) {
+                request.setCompletedDate(scheduled.plus(Duration.ofHours(random.nextInt(72))));
+            }
+        }
+        return request;
+    }
+
+    private SupportQuery newTicket(User user) {
+        SupportQuery ticket = new SupportQuery();
+        ticket.setUser(user);
+        ticket.setSubject("Question about my pickup");
+        ticket.setCategory(CATEGORIES[random.nextInt(CATEGORIES.length)]);
+        ticket.setDescription("The pickup window was missed, can it be rescheduled for the weekend?");
+        boolean resolved = random.nextInt(3) == 0;
+        ticket.setStatus(resolved ? "Resolved" : "Open");
+        ticket.setCreatedAt(LocalDateTime.now().minusDays(random.nextInt(90)));
+        if (resolved) {
+            ticket.setAdminReply("Rescheduled, thank you for your patience.");
+            ticket.setResolvedAt(LocalDateTime.now());
+        }
+        return ticket;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.ewaste.ewaste.perf;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Polls the Hikari pool every millisecond while a scenario runs and adds the peak number of
+ * busy connections and of threads waiting for one to its report. A peak active count below
+ * the pool size with no pending threads is the concurrency the flow really needs.
+ */
+final class PoolSampler implements AutoCloseable {
+
+    private final HikariDataSource pool;
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile int peakActive;
+    private volatile int peakPending;
+
+    private PoolSampler(HikariDataSource pool) {
+        this.pool = pool;
+        this.thread = new Thread(this::sample, "pool-sampler");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    static PoolSampler start(DataSource dataSource) throws SQLException {
+        // Unwraps the datasource-proxy wrapper added by SqlDiagnosticsConfig
+        return new PoolSampler(dataSource.unwrap(HikariDataSource.class));
+    }
+
+    private void sample() {
+        while (running) {
+            HikariPoolMXBean bean = pool.getHikariPoolMXBean();
+            if (bean != null) {
+                peakActive = Math.max(peakActive, bean.getActiveConnections());
+                peakPending = Math.max(peakPending, bean.getThreadsAwaitingConnection());
+            }
+            LockSupport.parkNanos(1_000_000);
+        }
+    }
+
+    /** Stops sampling and puts the pool size and both peaks into the report. */
+    void addTo(LoadReport report) throws InterruptedException {
+        close();
+        report.put("poolSize", pool.getMaximumPoolSize());
+        report.put("poolPeakActive", peakActive);
+        report.put("poolPeakPending", peakPending);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        thread.join();
+    }
+}
@@ -0,0 +1,83 @@
+package com.ewaste.ewaste.perf;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Runs one load scenario: {@code clients} threads each perform {@code callsPerClient} calls
+ * after a shared start signal. Latency, throughput and the bytes the client threads allocated
+ * end up in the report. Each client reads its own counter before it exits, since the JVM stops
+ * reporting a thread once it has ended; server threads (pooled, or virtual with the vthreads
+ * profile) cannot be measured this way and are not included.
+ */
+final class ScenarioRunner {
+
+    @FunctionalInterface
+    interface Call {
+        /** Performs one call and returns whether it succeeded. */
+        boolean run(int client, int iteration) throws Exception;
+    }
+
+    private ScenarioRunner() {
+    }
+
+    static LoadReport run(String scenario, int clients, int callsPerClient, Call call) throws InterruptedException {
+        LoadReport report = new LoadReport(scenario, clients * callsPerClient);
+        report.put("clients", clients);
+
+        ExecutorService clientPool = Executors.newFixedThreadPool(clients);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(clients);
+        LongAdder allocated = new LongAdder();
+        for (int c = 0; c < clients; c++) {
+            int client = c;
+            clientPool.execute(() -> {
+                long allocatedBefore = currentThreadAllocatedBytes();
+                try {
+                    start.await();
+                    for (int i = 0; i < callsPerClient; i++) {
+                        long t0 = System.nanoTime();
+                        boolean ok;
+                        try {
+                            ok = call.run(client, i);
+                        } catch (Exception e) {
+                            ok = false;
+                        }
+                        report.record(System.nanoTime() - t0, ok);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    allocated.add(currentThreadAllocatedBytes() - allocatedBefore);
+                    done.countDown();
+                }
+            });
+        }
+
+        long began = System.nanoTime();
+        start.countDown();
+        if (!done.await(10, TimeUnit.MINUTES)) {
+            throw new IllegalStateException("Scenario " + scenario + " did not finish in time");
+        }
+        report.finish(System.nanoTime() - began);
+        clientPool.shutdown();
+
+        long clientAllocated = allocated.sum();
+        report.put("clientAllocatedMb", Math.round(clientAllocated / (1024.0 * 1024.0) * 100.0) / 100.0);
+        report.put("clientAllocatedBytesPerCall", clients * callsPerClient == 0 ? 0 : clientAllocated / (clients * callsPerClient));
+        return report;
+    }
+
+    /** Bytes allocated so far by the calling (platform) thread, or 0 when the JVM can't tell us. */
+    private static long currentThreadAllocatedBytes() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)
+                || !threads.isThreadAllocatedMemoryEnabled()) {
+            return 0;
+        }
+        return Math.max(0, threads.getCurrentThreadAllocatedBytes());
+    }
+}
@@ -0,0 +1,136 @@
+package com.ewaste.ewaste.perf;
+
+import com.ewaste.ewaste.SmartEWasteCollectionApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Cold start as a new instance sees it: launches the startup layout (build/startup, see
+ * build.gradle) in a fresh JVM against the load-test H2 settings and measures the time until the
+ * port answers and until the first login succeeds. It then writes a CDS archive from a training
+ * run and measures again with it, as cdsArchive does. Extra JVM flags for both runs come from
+ * {@code startup.jvmArgs} (e.g. -Dspring.aot.enabled=true after a -Pstartup build).
+ * Writes startup.json.
+ */
+@Tag("load")
+class StartupTimeTest {
+
+    private static final long TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    private final List<String> jvmArgs = split(System.getProperty("startup.jvmArgs", ""));
+    private final Path startupDir = Path.of(System.getProperty("startup.dir", "build/startup"));
+    // H2, which the startup layout does not ship
+    private final String extraClasspath = System.getProperty("startup.classpath", "");
+
+    @Test
+    void timeToFirstRequest() throws Exception {
+        assumeTrue(Files.exists(startupDir.resolve("ewaste.jar")), "Run ./gradlew startupLayout first");
+        File archive = new File("startup.jsa");
+        archive.delete();
+
+        long[] cold = measure(List.of(), "startup.log");
+
+        Process training = launch(List.of("-XX:ArchiveClassesAtExit=" + archive.getPath(),
+                "-Dspring.context.exit=onRefresh"), freePort(), "startup-training.log");
+        assertTrue(training.waitFor(2, TimeUnit.MINUTES), "CDS training run did not exit");
+        assertEquals(0, training.exitValue(), "CDS training run failed, see startup-training.log");
+
+        long[] withArchive = measure(List.of("-XX:SharedArchiveFile=" + archive.getPath()), "startup-cds.log");
+
+        LoadReport report = new LoadReport("startup", 2);
+        report.record(cold[1], true);
+        report.record(withArchive[1], true);
+        report.finish(cold[1] + withArchive[1]);
+        report.put("portOpenMs", TimeUnit.NANOSECONDS.toMillis(cold[0]));
+        report.put("timeToFirstRequestMs", TimeUnit.NANOSECONDS.toMillis(cold[1]));
+        report.put("cdsPortOpenMs", TimeUnit.NANOSECONDS.toMillis(withArchive[0]));
+        report.put("cdsTimeToFirstRequestMs", TimeUnit.NANOSECONDS.toMillis(withArchive[1]));
+        report.put("cdsArchiveMb", Math.round(archive.length() / (1024.0 * 1024.0) * 100.0) / 100.0);
+        report.put("jvmArgs", String.join(" ", jvmArgs));
+        report.write("startup.json");
+    }
+
+    /** Starts the app and returns nanos until the port answered and until the first login succeeded. */
+    private long[] measure(List<String> flags, String logName) throws Exception {
+        int port = freePort();
+        long began = System.nanoTime();
+        Process process = launch(flags, port, logName);
+        try {
+            LoadTestClient client = new LoadTestClient(port);
+            long listening = 0;
+            while (true) {
+                assertTrue(process.isAlive(), "Application exited during startup, see " + logName);
+                if (System.nanoTime() - began > TIMEOUT_NANOS) {
+                    fail("No successful login within 2 minutes, see " + logName);
+                }
+                try {
+                    // Until the seeded users exist the login answers 401; keep polling until it works
+                    int status = client.loginStatus("user@example.com", "user123");
+                    if (listening == 0) {
+                        listening = System.nanoTime() - began;
+                    }
+                    if (status == 200) {
+                        return new long[]{listening, System.nanoTime() - began};
+                    }
+                } catch (IOException notListeningYet) {
+                    // Connection refused: the web server has not started yet
+                }
+                Thread.sleep(10);
+            }
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private Process launch(List<String> flags, int port, String logName) throws IOException, URISyntaxException {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.addAll(flags);
+        // Only jars on the class path: CDS does not archive classes loaded from directories
+        String classpath = startupDir.resolve("ewaste.jar")
+                + (extraClasspath.isEmpty() ? "" : File.pathSeparator + extraClasspath);
+        command.addAll(List.of("-cp", classpath, SmartEWasteCollectionApplication.class.getName(),
+                "--spring.config.additional-location=" + loadtestConfig(),
+                "--spring.profiles.active=loadtest", "--server.port=" + port));
+        return new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(new File(logName))
+                .start();
+    }
+
+    private static String loadtestConfig() throws URISyntaxException {
+        URL config = StartupTimeTest.class.getResource("/application-loadtest.properties");
+        return Path.of(config.toURI()).toUri().toString();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static List<String> split(String args) {
+        return args.isBlank() ? List.of() : Arrays.asList(args.trim().split("\\s+"));
+    }
+}
@@ -0,0 +1,65 @@
+package com.ewaste.ewaste.perf;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Drives an authenticated, JDBC-bound endpoint with {@code loadtest.clients} concurrent clients
+ * (2,000 by default). Run it once on platform threads and once with virtual threads enabled
+ * (see the loadTest task in build.gradle) and compare the two reports.
+ */
+@Tag("load")
+@ActiveProfiles("loadtest")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class VirtualThreadLoadTest {
+
+    private static final int CALLS_PER_CLIENT = 5;
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Test
+    void statsEndpointUnderConcurrentClients() throws Exception {
+        int clients = Integer.getInteger("loadtest.clients", 2000);
+        HttpClient http = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(30))
+                .build();
+
+        String token = LoadTestClient.login(http, port, "user@example.com", "user123");
+        HttpRequest statsCall = HttpRequest.newBuilder(URI.create(
+                        "http://localhost:" + port + "/api/user/my-stats/requests-by-status"))
+                .header("Authorization", "Bearer " + token)
+                .timeout(Duration.ofSeconds(60))
+                .GET()
+                .build();
+
+        // Warm up JIT, connection pool and Hibernate caches before measuring
+        for (int i = 0; i < 200; i++) {
+            http.send(statsCall, HttpResponse.BodyHandlers.discarding());
+        }
+
+        String mode = virtualThreads ? "virtual" : "platform";
+        LoadReport report = ScenarioRunner.run("stats-" + mode + "-threads", clients, CALLS_PER_CLIENT,
+                (client, i) -> http.send(statsCall, HttpResponse.BodyHandlers.discarding()).statusCode() == 200);
+        report.put("virtualThreads", virtualThreads);
+
+        report.write("stats-" + mode + "-threads.json");
+        assertEquals(0, report.errors(), "Some calls failed under load");
+    }
+}
\ No newline at end of file
@@ -0,0 +1,122 @@
+package com.ewaste.ewaste.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Applies the Flyway migrations to a real MySQL, seeds enough rows for the optimizer to prefer
+ * indexes, and checks with EXPLAIN that the hot repository queries use the indexes V2 adds for
+ * them. The SQL mirrors what Hibernate generates for each repository method.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class QueryIndexUsageTest {
+
+    @Container
+    private static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+    private static SingleConnectionDataSource dataSource;
+    private static JdbcTemplate jdbc;
+
+    @BeforeAll
+    static void migrateAndSeed() {
+        Flyway.configure()
+                .dataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())
+                .load()
+                .migrate();
+
+        // One connection, so the session variable below applies to every statement
+        dataSource = new SingleConnectionDataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword(), true);
+        jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("SET SESSION cte_max_recursion_depth = 100000");
+
+        jdbc.update("INSERT INTO users (name, email, password, status, role, created_at) " +
+                "WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 500) " +
+                "SELECT CONCAT('User ', n), CONCAT('user', n, '@test.local'), 'x', 'ACTIVE', 'ROLE_USER', NOW(6) FROM seq");
+        jdbc.update("INSERT INTO pickup_persons (user_id, vehicle_number, is_available, created_at) " +
+                "SELECT id, CONCAT('KA-', id), 1, NOW(6) FROM users WHERE id <= 20");
+        // 2% PENDING, a third SCHEDULED, the rest COMPLETED, spread over a year
+        jdbc.update("INSERT INTO ewaste_requests (user_id, device_type, condition_status, quantity, pickup_address, " +
+                "status, assigned_pickup_person_id, scheduled_pickup_date, completed_date, created_at, updated_at) " +
+                "WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 20000) " +
+                "SELECT 1 + n % 500, ELT(1 + n % 4, 'Laptop', 'Mobile', 'Monitor', 'Printer'), 'WORKING', 1, 'Somewhere', " +
+                "CASE WHEN n % 50 = 0 THEN 'PENDING' WHEN n % 3 = 0 THEN 'SCHEDULED' ELSE 'COMPLETED' END, " +
+                "CASE WHEN n % 50 = 0 THEN NULL ELSE 1 + n % 20 END, NOW(6) - INTERVAL (n % 365) DAY, " +
+                "CASE WHEN n % 50 <> 0 AND n % 3 <> 0 THEN NOW(6) - INTERVAL (n % 365) DAY END, " +
+                "NOW(6) - INTERVAL (n % 400) DAY, NOW(6) FROM seq");
+        jdbc.update("INSERT INTO support_queries (user_id, subject, description, status, created_at) " +
+                "WITH RECURSIVE seq(n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < 2000) " +
+                "SELECT 1 + n % 500, 'Pickup delayed', 'Nobody came', 'Open', NOW(6) - INTERVAL (n % 90) DAY FROM seq");
+        jdbc.execute("ANALYZE TABLE users, pickup_persons, ewaste_requests, support_queries");
+    }
+
+    @AfterAll
+    static void closeConnection() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void requestHistoryUsesUserCreatedIndex() {
+        // findByUserIdOrderByCreatedAtDesc
+        assertUsesIndex("SELECT * FROM ewaste_requests e WHERE e.user_id = 42 ORDER BY e.created_at DESC",
+                "e", "idx_request_user_created");
+    }
+
+    @Test
+    void assignedRequestsUseAssigneeIndex() {
+        // findByAssignedPickupPersonId; either assignee index serves the equality lookup
+        String key = keyFor("SELECT * FROM ewaste_requests e WHERE e.assigned_pickup_person_id = 7", "e");
+        assertTrue(key != null && key.startsWith("idx_request_assignee_"), "used " + key);
+    }
+
+    @Test
+    void dailyJobCountsUseAssigneeIndexes() {
+        // countClosedJobs; an index merge of the completed and collected indexes, or either one
+        String key = keyFor("SELECT COUNT(*) FROM ewaste_requests e WHERE e.assigned_pickup_person_id = 7 " +
+                "AND ((e.completed_date >= NOW() - INTERVAL 1 DAY AND e.completed_date < NOW()) " +
+                "OR (e.collected_date >= NOW() - INTERVAL 1 DAY AND e.collected_date < NOW()))", "e");
+        assertTrue(key != null && key.startsWith("idx_request_assignee_"), "used " + key);
+    }
+
+    @Test
+    void statusFilterUsesStatusIndex() {
+        // Admin list filtered by status, newest first
+        assertUsesIndex("SELECT * FROM ewaste_requests e WHERE e.status = 'PENDING' ORDER BY e.created_at DESC LIMIT 20",
+                "e", "idx_request_status_created");
+    }
+
+    @Test
+    void ticketHistoryUsesUserCreatedIndex() {
+        // SupportQueryRepository.findViewsByUserEmail
+        assertUsesIndex("SELECT q.* FROM support_queries q JOIN users u ON u.id = q.user_id " +
+                        "WHERE u.email = 'user42@test.local' ORDER BY q.created_at DESC",
+                "q", "idx_support_user_created");
+    }
+
+    private static void assertUsesIndex(String sql, String table, String index) {
+        assertEquals(index, keyFor(sql, table), sql);
+    }
+
+    private static String keyFor(String sql, String table) {
+        List<Map<String, Object>> plan = jdbc.queryForList("EXPLAIN " + sql);
+        Map<String, Object> row = plan.stream()
+                .filter(step -> table.equals(step.get("table")))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No plan row for " + table + " in " + plan));
+        assertNotEquals("ALL", row.get("type"), "full scan of " + table + ": " + plan);
+        return (String) row.get("key");
+    }
+}
@@ -0,0 +1,63 @@
+package com.ewaste.ewaste.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+/**
+ * /actuator/prometheus is readable with the configured scrape token only; health stays public
+ * for the load balancer.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "app.metrics.scrape-token=test-scrape-token")
+@ActiveProfiles("loadtest")
+class PrometheusEndpointSecurityTest {
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Test
+    void scrapeTokenCanReadMetrics() {
+        assertEquals(HttpStatus.OK, scrape("test-scrape-token").getStatusCode());
+    }
+
+    @Test
+    void metricsNeedTheScrapeToken() {
+        assertEquals(HttpStatus.UNAUTHORIZED, rest.getForEntity("/actuator/prometheus", String.class).getStatusCode());
+        assertEquals(HttpStatus.UNAUTHORIZED, scrape("wrong-token").getStatusCode());
+    }
+
+    @Test
+    void scrapeTokenOpensNothingElse() {
+        ResponseEntity<String> response = rest.exchange("/api/requests", HttpMethod.GET,
+                new HttpEntity<>(bearer("test-scrape-token")), String.class);
+
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+    }
+
+    @Test
+    void healthStaysPublic() {
+        // UP or DOWN (no SMTP server here), but never an authentication failure
+        assertNotEquals(HttpStatus.UNAUTHORIZED, rest.getForEntity("/actuator/health", String.class).getStatusCode());
+    }
+
+    private ResponseEntity<String> scrape(String token) {
+        return rest.exchange("/actuator/prometheus", HttpMethod.GET, new HttpEntity<>(bearer(token)), String.class);
+    }
+
+    private static HttpHeaders bearer(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return headers;
+    }
+}
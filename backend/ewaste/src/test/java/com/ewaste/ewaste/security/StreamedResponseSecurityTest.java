@@ -0,0 +1,64 @@
+package com.ewaste.ewaste.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The admin request list is written by a StreamingResponseBody, which completes in an ASYNC
+ * dispatch. Runs on the embedded load-test database with the seeded admin account.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class StreamedResponseSecurityTest {
+
+    @Autowired
+    private TestRestTemplate rest;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void adminCanReadStreamedRequestList() throws Exception {
+        ResponseEntity<String> response = rest.exchange("/api/requests", HttpMethod.GET,
+                new HttpEntity<>(bearer(login("admin@ewaste.com", "admin123"))), String.class);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertTrue(objectMapper.readTree(response.getBody()).isArray());
+    }
+
+    @Test
+    void streamedRequestListStillNeedsAuthentication() {
+        ResponseEntity<String> response = rest.getForEntity("/api/requests", String.class);
+
+        assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
+    }
+
+    private String login(String email, String password) throws Exception {
+        ResponseEntity<String> response = rest.postForEntity("/api/auth/login",
+                Map.of("email", email, "password", password), String.class);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        JsonNode body = objectMapper.readTree(response.getBody());
+        return body.get("accessToken").asText();
+    }
+
+    private static HttpHeaders bearer(String token) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setBearerAuth(token);
+        return headers;
+    }
+}
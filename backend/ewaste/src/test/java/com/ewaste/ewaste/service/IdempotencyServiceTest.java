@@ -0,0 +1,69 @@
+package com.ewaste.ewaste.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class IdempotencyServiceTest {
+
+    private final IdempotencyService service = new IdempotencyService(Duration.ofMinutes(5), 100);
+    private final AtomicInteger runs = new AtomicInteger();
+
+    @Test
+    void repeatedKeyReplaysFirstResponse() {
+        ResponseEntity<?> first = service.execute("alice", "k1", "payload", this::created);
+        ResponseEntity<?> second = service.execute("alice", "k1", "payload", this::created);
+
+        assertEquals(1, runs.get());
+        assertEquals(first.getBody(), second.getBody());
+        assertEquals("true", second.getHeaders().getFirst("Idempotent-Replayed"));
+    }
+
+    @Test
+    void keysAreScopedPerUser() {
+        service.execute("alice", "k1", "payload", this::created);
+        service.execute("bob", "k1", "payload", this::created);
+
+        assertEquals(2, runs.get());
+    }
+
+    @Test
+    void reusingKeyForDifferentPayloadIsRejected() {
+        service.execute("alice", "k1", "payload", this::created);
+        ResponseEntity<?> reused = service.execute("alice", "k1", "other payload", this::created);
+
+        assertEquals(HttpStatus.UNPROCESSABLE_ENTITY, reused.getStatusCode());
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void repeatWhileFirstIsRunningGetsConflict() {
+        ResponseEntity<?> inner = service.execute("alice", "k1", "payload",
+                () -> service.execute("alice", "k1", "payload", this::created));
+
+        assertEquals(HttpStatus.CONFLICT, inner.getStatusCode());
+    }
+
+    @Test
+    void failuresAreNotStored() {
+        ResponseEntity<?> rejected = service.execute("alice", "k1", "payload",
+                () -> ResponseEntity.badRequest().body("Device condition is required"));
+        assertThrows(RuntimeException.class,
+                () -> service.execute("alice", "k2", "payload", () -> { throw new RuntimeException("disk full"); }));
+
+        assertEquals(HttpStatus.BAD_REQUEST, rejected.getStatusCode());
+        assertEquals(HttpStatus.OK, service.execute("alice", "k1", "payload", this::created).getStatusCode());
+        assertEquals(HttpStatus.OK, service.execute("alice", "k2", "payload", this::created).getStatusCode());
+        assertEquals(2, runs.get());
+    }
+
+    private ResponseEntity<?> created() {
+        return ResponseEntity.ok("Request submitted successfully #" + runs.incrementAndGet());
+    }
+}
@@ -0,0 +1,81 @@
+package com.ewaste.ewaste.service;
+
+import com.ewaste.ewaste.model.ConditionStatus;
+import com.ewaste.ewaste.model.EwasteRequest;
+import com.ewaste.ewaste.model.RequestStatus;
+import com.ewaste.ewaste.model.User;
+import com.ewaste.ewaste.model.UserImpactRollup;
+import com.ewaste.ewaste.repository.EwasteRequestRepository;
+import com.ewaste.ewaste.repository.UserImpactRollupRepository;
+import com.ewaste.ewaste.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Two completions of the same request at once (an OTP double-tap, or the admin and the pickup
+ * person together) must add it to the owner's impact rollup once.
+ */
+@SpringBootTest
+@ActiveProfiles("loadtest")
+class RequestStatusConcurrencyTest {
+
+    @Autowired
+    private EwasteRequestService ewasteRequestService;
+
+    @Autowired
+    private EwasteRequestRepository requestRepository;
+
+    @Autowired
+    private UserImpactRollupRepository rollupRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void concurrentCompletionsCountOnce() throws Exception {
+        User user = userRepository.save(new User("Double Tap", "double-tap@test.local", "!locked"));
+
+        EwasteRequest request = new EwasteRequest();
+        request.setUser(user);
+        request.setDeviceType("Laptop");
+        request.setConditionStatus(ConditionStatus.WORKING);
+        request.setQuantity(2);
+        request.setPickupAddress("1 Test Street");
+        request.setStatus(RequestStatus.SCHEDULED);
+        Long requestId = requestRepository.save(request).getId();
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<EwasteRequest>> completions = List.of(
+                    pool.submit(() -> complete(start, requestId)),
+                    pool.submit(() -> complete(start, requestId)));
+            start.countDown();
+            for (Future<EwasteRequest> completion : completions) {
+                completion.get();
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        List<UserImpactRollup> rollups = rollupRepository.findByUserIdOrderByPeriodMonthAsc(user.getId());
+        assertEquals(1, rollups.size());
+        assertEquals(1, rollups.get(0).getRequests());
+        assertEquals(2, rollups.get(0).getItems());
+    }
+
+    private EwasteRequest complete(CountDownLatch start, Long requestId) throws InterruptedException {
+        start.await();
+        return ewasteRequestService.changeStatus(requestId, RequestStatus.COMPLETED, null);
+    }
+}
@@ -0,0 +1,69 @@
+package com.ewaste.ewaste.service;
+
+import com.ewaste.ewaste.model.User;
+import com.ewaste.ewaste.model.UserDeletionJob;
+import com.ewaste.ewaste.repository.UserDeletionJobRepository;
+import com.ewaste.ewaste.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * A job left RUNNING by an instance that went away (its in-memory queue is gone, so nobody
+ * refreshes the heartbeat) is resumed by the next instance's startup sweep.
+ */
+@SpringBootTest
+@ActiveProfiles("loadtest")
+class UserDeletionResumeTest {
+
+    @Autowired
+    private UserDeletionService userDeletionService;
+
+    @Autowired
+    private UserDeletionJobRepository jobRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    void orphanedJobIsResumedAfterRestart() throws InterruptedException {
+        User user = new User("Leaving User", "leaving@test.local", "!locked");
+        user.setStatus("DELETING");
+        Long userId = userRepository.save(user).getId();
+
+        UserDeletionJob job = new UserDeletionJob();
+        job.setUserId(userId);
+        job.setMode(UserDeletionJob.Mode.DELETE);
+        job.setStatus(UserDeletionJob.Status.RUNNING);
+        job.setStartedAt(Instant.now().minus(Duration.ofHours(1)));
+        job.setHeartbeatAt(Instant.now().minus(Duration.ofHours(1)));
+        Long jobId = jobRepository.save(job).getId();
+
+        userDeletionService.reclaimStaleJobs();
+
+        UserDeletionJob finished = awaitFinished(jobId);
+        assertEquals(UserDeletionJob.Status.COMPLETED, finished.getStatus());
+        assertNotNull(finished.getFinishedAt());
+        assertFalse(userRepository.existsById(userId));
+    }
+
+    private UserDeletionJob awaitFinished(Long jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(30).toNanos();
+        while (System.nanoTime() < deadline) {
+            UserDeletionJob job = jobRepository.findById(jobId).orElseThrow();
+            if (job.getFinishedAt() != null) {
+                return job;
+            }
+            Thread.sleep(50);
+        }
+        throw new AssertionError("Deletion job " + jobId + " was not resumed");
+    }
+}
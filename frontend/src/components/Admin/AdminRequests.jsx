@@ -7,10 +7,16 @@ import {
   Trash2, Users, Mail, X, Truck, MapPin, User, Phone, AlertCircle,
   Recycle, BarChart3, TrendingUp, Package, Shield, Home, Image as ImageIcon
 } from 'lucide-react';
+import Pager from '../common/Pager';
+
+const PAGE_SIZE = 20;
 
 const AdminRequests = () => {
   const [requests, setRequests] = useState([]);
-  const [filteredRequests, setFilteredRequests] = useState([]);
+  const [totalRequests, setTotalRequests] = useState(0);
+  const [page, setPage] = useState(0);
+  const [totalPages, setTotalPages] = useState(0);
+  const [statusFacets, setStatusFacets] = useState({});
   const [loading, setLoading] = useState(true);
   const [searchTerm, setSearchTerm] = useState('');
   const [statusFilter, setStatusFilter] = useState('ALL');
@@ -21,18 +27,34 @@ const AdminRequests = () => {
   const [pickupPersonsList, setPickupPersonsList] = useState([]);
 
   useEffect(() => {
-    fetchRequests();
     fetchPickupPersons();
   }, []);
 
   useEffect(() => {
-    filterRequests();
-  }, [requests, searchTerm, statusFilter]);
+    // Debounce typing so the server-side search runs once per pause
+    const timer = setTimeout(() => fetchRequests(0), 300);
+    return () => clearTimeout(timer);
+  }, [searchTerm, statusFilter]);
 
-  const fetchRequests = async () => {
+  // Facet counts only change with the search or the data, so paging skips them
+  const fetchRequests = async (pageNumber = page, withFacets = true) => {
     try {
-      const response = await axios.get('http://localhost:8080/api/requests');
-      setRequests(response.data);
+      const response = await axios.get('http://localhost:8080/api/admin/requests/search', {
+        params: {
+          q: searchTerm.trim() || undefined,
+          status: statusFilter !== 'ALL' ? statusFilter : undefined,
+          page: pageNumber,
+          size: PAGE_SIZE,
+          facets: withFacets
+        }
+      });
+      setRequests(response.data.content);
+      setPage(response.data.page);
+      setTotalPages(response.data.totalPages);
+      setTotalRequests(response.data.totalElements);
+      if (withFacets) {
+        setStatusFacets(response.data.statusFacets || {});
+      }
     } catch (error) {
       console.error('Error fetching requests:', error);
     } finally {
@@ -42,32 +64,27 @@ const AdminRequests = () => {
 
   const fetchPickupPersons = async () => {
     try {
-      const response = await axios.get('http://localhost:8080/api/admin/pickup-persons');
+      const response = await axios.get('http://localhost:8080/api/admin/pickup-persons', { params: { available: true } });
       setPickupPersonsList(response.data);
     } catch (error) {
       console.error('Error fetching pickup persons:', error);
     }
   };
 
-  const filterRequests = () => {
-    let filtered = requests;
-
-    if (statusFilter !== 'ALL') {
-      filtered = filtered.filter(request => request.status === statusFilter);
-    }
-
-    if (searchTerm) {
-      filtered = filtered.filter(request =>
-        request.deviceType.toLowerCase().includes(searchTerm.toLowerCase()) ||
-        request.brand.toLowerCase().includes(searchTerm.toLowerCase()) ||
-        request.model.toLowerCase().includes(searchTerm.toLowerCase()) ||
-        (request.userName && request.userName.toLowerCase().includes(searchTerm.toLowerCase()))
-      );
+  // Images are not part of the list rows; load them when the details modal opens
+  const openRequestDetails = async (request) => {
+    setSelectedRequest(request);
+    try {
+      const response = await axios.get(`http://localhost:8080/api/requests/${request.id}/images`);
+      setSelectedRequest(current => (current && current.id === request.id ? { ...current, images: response.data } : current));
+    } catch (error) {
+      console.error('Error fetching request images:', error);
     }
-
-    setFilteredRequests(filtered);
   };
 
+  // Search and status filtering happen server-side
+  const filteredRequests = requests;
+
   const updateRequestStatus = async (requestId, status, rejectionReason = '') => {
     try {
       await axios.put(`http://localhost:8080/api/requests/${requestId}/status`, {
@@ -285,7 +302,7 @@ const AdminRequests = () => {
                   {pickupPersons && pickupPersons.length > 0 ? (
                     pickupPersons.map((person) => (
                       <option key={person.id} value={person.id}>
-                        {person.user.name} ({person.user.phoneNumber || 'No Phone'}) - {person.vehicleNumber || 'No Vehicle'}
+                        {person.name} ({person.phoneNumber || 'No Phone'}) - {person.vehicleNumber || 'No Vehicle'}
                       </option>
                     ))
                   ) : (
@@ -296,7 +313,7 @@ const AdminRequests = () => {
                 {formData.pickupPersonId && (
                   <div className="mt-3 p-4 bg-blue-50/50 rounded-xl border border-blue-200/50 backdrop-blur-sm">
                     <p className="text-sm font-medium text-blue-700">
-                      Selected: {pickupPersons.find(p => p.id === Number(formData.pickupPersonId))?.user.name}
+                      Selected: {pickupPersons.find(p => p.id === Number(formData.pickupPersonId))?.name}
                     </p>
                   </div>
                 )}
@@ -334,7 +351,7 @@ const AdminRequests = () => {
                     <span className="font-medium">Assigned To:</span>
                     <span>
                       {formData.pickupPersonId 
-                        ? pickupPersons.find(p => p.id === Number(formData.pickupPersonId))?.user.name
+                        ? pickupPersons.find(p => p.id === Number(formData.pickupPersonId))?.name
                         : 'Not assigned'
                       }
                     </span>
@@ -408,8 +425,8 @@ const AdminRequests = () => {
                   <div><h1 className="text-2xl md:text-3xl font-bold">Manage Requests</h1><p className="text-green-100 text-lg">Review and manage all e-waste collection requests</p></div>
                 </div>
                 <div className="flex flex-wrap gap-4 mt-4">
-                  <div className="flex items-center gap-2 bg-white/20 px-3 py-2 rounded-lg backdrop-blur-sm border border-white/30"><Recycle className="h-4 w-4 text-green-300" /><span className="text-sm font-medium">{requests.length} Total Requests</span></div>
-                  <div className="flex items-center gap-2 bg-white/20 px-3 py-2 rounded-lg backdrop-blur-sm border border-white/30"><Clock className="h-4 w-4 text-yellow-300" /><span className="text-sm font-medium">{requests.filter(r => r.status === 'PENDING').length} Pending</span></div>
+                  <div className="flex items-center gap-2 bg-white/20 px-3 py-2 rounded-lg backdrop-blur-sm border border-white/30"><Recycle className="h-4 w-4 text-green-300" /><span className="text-sm font-medium">{totalRequests} Total Requests</span></div>
+                  <div className="flex items-center gap-2 bg-white/20 px-3 py-2 rounded-lg backdrop-blur-sm border border-white/30"><Clock className="h-4 w-4 text-yellow-300" /><span className="text-sm font-medium">{statusFacets.PENDING || 0} Pending</span></div>
                 </div>
               </div>
               <Link to="/admin" className="bg-white/20 rounded-2xl p-4 backdrop-blur-sm border border-white/30 hover:bg-white/30 transition-all duration-300"><div className="flex items-center gap-3"><ArrowLeft className="h-5 w-5 text-white" /><div><p className="text-sm text-green-100 font-medium">Back to Dashboard</p></div></div></Link>
@@ -503,7 +520,7 @@ const AdminRequests = () => {
                       </td>
                       <td className="px-6 py-4 text-right">
                         <div className="flex justify-end gap-2">
-                          <button onClick={() => setSelectedRequest(request)} className="p-2 text-gray-400 hover:text-green-600 bg-gray-50 hover:bg-green-50 rounded-xl border border-gray-200 hover:border-green-200 transition-all duration-300 backdrop-blur-sm group/eye" title="View Details">
+                          <button onClick={() => openRequestDetails(request)} className="p-2 text-gray-400 hover:text-green-600 bg-gray-50 hover:bg-green-50 rounded-xl border border-gray-200 hover:border-green-200 transition-all duration-300 backdrop-blur-sm group/eye" title="View Details">
                             <Eye className="h-4 w-4 group-hover/eye:scale-110 transition-transform" />
                           </button>
                           <div className="relative">
@@ -537,11 +554,12 @@ const AdminRequests = () => {
               </tbody>
             </table>
           </div>
+          <Pager page={page} totalPages={totalPages} totalElements={totalRequests} onPageChange={(next) => fetchRequests(next, false)} />
           {filteredRequests.length === 0 && (
             <div className="text-center py-16">
               <div className="bg-gray-50/50 w-20 h-20 rounded-full flex items-center justify-center mx-auto mb-4 backdrop-blur-sm border border-gray-200/50"><AlertCircle className="h-10 w-10 text-gray-400" /></div>
               <h3 className="text-xl font-semibold text-gray-900 mb-2">No requests found</h3>
-              <p className="text-gray-600">{requests.length === 0 ? "There are no e-waste collection requests yet." : "No requests match your current filters."}</p>
+              <p className="text-gray-600">{totalRequests === 0 && !searchTerm && statusFilter === 'ALL' ? "There are no e-waste collection requests yet." : "No requests match your current filters."}</p>
             </div>
           )}
         </div>
@@ -561,13 +579,13 @@ const AdminRequests = () => {
               </div>
               <div className="space-y-6">
                 {/* --- DISPLAYING IMAGES --- */}
-                {selectedRequest.imageUrls && (
+                {selectedRequest.images && selectedRequest.images.length > 0 && (
                   <div className="mt-4 border-b border-gray-100 pb-4">
                     <h4 className="text-md font-semibold text-gray-900 mb-3 flex items-center gap-2"><ImageIcon className="h-4 w-4 text-purple-500" /> Submitted Images</h4>
                     <div className="grid grid-cols-2 md:grid-cols-4 gap-4">
-                      {selectedRequest.imageUrls.split(',').map((url, index) => (
-                        <a key={index} href={`http://localhost:8080${url}`} target="_blank" rel="noopener noreferrer" className="block relative h-24 rounded-lg overflow-hidden border border-gray-200 hover:shadow-md transition-shadow group">
-                          <img src={`http://localhost:8080${url}`} alt={`Proof ${index + 1}`} className="w-full h-full object-cover group-hover:scale-110 transition-transform duration-300" />
+                      {selectedRequest.images.map((image, index) => (
+                        <a key={image.id} href={`http://localhost:8080${image.url}`} target="_blank" rel="noopener noreferrer" className="block relative h-24 rounded-lg overflow-hidden border border-gray-200 hover:shadow-md transition-shadow group">
+                          <img src={`http://localhost:8080${image.thumbnailUrl || image.url}`} alt={`Proof ${index + 1}`} className="w-full h-full object-cover group-hover:scale-110 transition-transform duration-300" />
                         </a>
                       ))}
                     </div>
@@ -21,9 +21,15 @@ import {
   Eye
 } from 'lucide-react';
 import { Link } from 'react-router-dom';
+import Pager from '../common/Pager';
+
+const PAGE_SIZE = 20;
 
 const ManageTickets = () => {
   const [queries, setQueries] = useState([]);
+  const [page, setPage] = useState(0);
+  const [totalPages, setTotalPages] = useState(0);
+  const [totalElements, setTotalElements] = useState(0);
   const [loading, setLoading] = useState(true);
   const [selectedTicket, setSelectedTicket] = useState(null);
   const [replyText, setReplyText] = useState('');
@@ -37,15 +43,27 @@ const ManageTickets = () => {
   });
 
   useEffect(() => {
-    fetchQueries();
-  }, []);
+    // Debounce typing so the server-side search runs once per pause
+    const timer = setTimeout(() => fetchQueries(0), 300);
+    return () => clearTimeout(timer);
+  }, [filter, searchTerm]);
 
-  const fetchQueries = async () => {
+  const fetchQueries = async (pageNumber = page) => {
     try {
       setLoading(true);
-      const response = await axios.get('http://localhost:8080/api/support/admin/all');
-      setQueries(response.data);
-      calculateStats(response.data);
+      const response = await axios.get('http://localhost:8080/api/support/admin/all', {
+        params: {
+          status: filter !== 'ALL' ? filter : undefined,
+          q: searchTerm.trim() || undefined,
+          page: pageNumber,
+          size: PAGE_SIZE
+        }
+      });
+      setQueries(response.data.content);
+      setPage(response.data.number);
+      setTotalPages(response.data.totalPages);
+      setTotalElements(response.data.totalElements);
+      fetchStats();
     } catch (error) {
       console.error("Error fetching support queries", error);
       // Fallback mock data
@@ -57,7 +75,8 @@ const ManageTickets = () => {
           description: 'My scheduled pickup was missed yesterday. I was waiting from 2-4 PM but no one showed up.',
           status: 'Open',
           createdAt: '2024-03-20T10:30:00',
-          user: { name: 'John Doe', email: 'john@example.com', phoneNumber: '1234567890' },
+          userName: 'John Doe',
+          userEmail: 'john@example.com',
           adminReply: null,
           relatedRequestId: 123
         },
@@ -68,7 +87,8 @@ const ManageTickets = () => {
           description: 'Unable to login to my account. Getting "Invalid credentials" error even though password is correct.',
           status: 'Resolved',
           createdAt: '2024-03-18T14:20:00',
-          user: { name: 'Jane Smith', email: 'jane@example.com', phoneNumber: '0987654321' },
+          userName: 'Jane Smith',
+          userEmail: 'jane@example.com',
           adminReply: 'We have reset your password. Please check your email for the new temporary password.',
           resolvedAt: '2024-03-19T09:15:00',
           relatedRequestId: null
@@ -80,7 +100,8 @@ const ManageTickets = () => {
           description: 'I was charged for a pickup service but it should have been free according to your policy.',
           status: 'Open',
           createdAt: '2024-03-21T16:45:00',
-          user: { name: 'Mike Johnson', email: 'mike@example.com', phoneNumber: '555-0123' },
+          userName: 'Mike Johnson',
+          userEmail: 'mike@example.com',
           adminReply: null,
           relatedRequestId: 456
         }
@@ -92,6 +113,22 @@ const ManageTickets = () => {
     }
   };
 
+  // Header counts cover every ticket, not just the loaded page
+  const fetchStats = async () => {
+    try {
+      const response = await axios.get('http://localhost:8080/api/support/admin/stats');
+      const counts = response.data;
+      setStats({
+        total: Object.values(counts).reduce((sum, count) => sum + count, 0),
+        open: counts.Open || 0,
+        resolved: counts.Resolved || 0,
+        pending: counts.Pending || 0
+      });
+    } catch (error) {
+      console.error("Error fetching ticket stats", error);
+    }
+  };
+
   const calculateStats = (ticketData) => {
     const total = ticketData.length;
     const open = ticketData.filter(t => t.status === 'Open').length;
@@ -136,14 +173,8 @@ const ManageTickets = () => {
     }
   };
 
-  const filteredQueries = queries.filter(q => {
-    const matchesFilter = filter === 'ALL' || q.status === filter.toUpperCase();
-    const matchesSearch = q.subject.toLowerCase().includes(searchTerm.toLowerCase()) ||
-                         q.user.name.toLowerCase().includes(searchTerm.toLowerCase()) ||
-                         q.user.email.toLowerCase().includes(searchTerm.toLowerCase());
-    
-    return matchesFilter && matchesSearch;
-  });
+  // Status filter and search are applied server-side
+  const filteredQueries = queries;
 
   const getStatusColor = (status) => {
     switch (status) {
@@ -294,7 +325,7 @@ const ManageTickets = () => {
               </div>
               
               <button 
-                onClick={fetchQueries}
+                onClick={() => fetchQueries()}
                 disabled={loading}
                 className="flex items-center gap-2 px-4 py-3 text-gray-600 bg-gray-50 border border-gray-200 rounded-xl hover:bg-gray-100 transition-all duration-300 backdrop-blur-sm"
               >
@@ -355,7 +386,7 @@ const ManageTickets = () => {
                       </p>
                       <p className="text-xs text-gray-400 mt-2 flex items-center gap-1">
                         <User className="h-3 w-3" />
-                        {ticket.user.name || ticket.user.email}
+                        {ticket.userName || ticket.userEmail}
                       </p>
                     </div>
                     {ticket.relatedRequestId && (
@@ -367,6 +398,7 @@ const ManageTickets = () => {
                 </div>
               ))
             )}
+            <Pager page={page} totalPages={totalPages} totalElements={totalElements} onPageChange={fetchQueries} />
           </div>
 
           {/* Ticket Detail & Reply View */}
@@ -400,12 +432,12 @@ const ManageTickets = () => {
                       <div className="flex items-center gap-2 mb-2">
                         <div className="w-10 h-10 rounded-full bg-gradient-to-r from-green-500 to-blue-500 flex items-center justify-center flex-shrink-0">
                           <span className="text-xs font-bold text-white">
-                            {selectedTicket.user.name ? selectedTicket.user.name.charAt(0).toUpperCase() : 'U'}
+                            {selectedTicket.userName ? selectedTicket.userName.charAt(0).toUpperCase() : 'U'}
                           </span>
                         </div>
                         <div>
-                          <p className="text-sm font-medium text-gray-900">{selectedTicket.user.name || 'Unknown User'}</p>
-                          <p className="text-xs text-gray-500">{selectedTicket.user.email}</p>
+                          <p className="text-sm font-medium text-gray-900">{selectedTicket.userName || 'Unknown User'}</p>
+                          <p className="text-xs text-gray-500">{selectedTicket.userEmail}</p>
                         </div>
                       </div>
                     </div>
@@ -26,14 +26,22 @@ import {
   Calendar
 } from 'lucide-react';
 import { Link } from 'react-router-dom';
+import Pager from '../common/Pager';
+
+// Seven full rows of the three-column grid
+const PAGE_SIZE = 21;
 
 const ManageUsers = () => {
   const [users, setUsers] = useState([]);
+  const [page, setPage] = useState(0);
+  const [totalPages, setTotalPages] = useState(0);
+  const [totalElements, setTotalElements] = useState(0);
   const [loading, setLoading] = useState(true);
   const [searchTerm, setSearchTerm] = useState('');
   const [error, setError] = useState(null);
   const [actionMenu, setActionMenu] = useState(null);
   const [roleFilter, setRoleFilter] = useState('ALL');
+  const [summary, setSummary] = useState(null);
 
   // Modal states
   const [showViewModal, setShowViewModal] = useState(false);
@@ -48,14 +56,39 @@ const ManageUsers = () => {
   });
 
   useEffect(() => {
-    fetchUsers();
+    fetchSummary();
   }, []);
 
-  const fetchUsers = async () => {
+  useEffect(() => {
+    // Debounce typing so the server-side prefix search runs once per pause
+    const timer = setTimeout(() => fetchUsers(0), 300);
+    return () => clearTimeout(timer);
+  }, [searchTerm, roleFilter]);
+
+  const fetchSummary = async () => {
+    try {
+      const response = await axios.get('/api/admin/users/summary');
+      setSummary(response.data);
+    } catch (error) {
+      console.error("Error fetching user summary", error);
+    }
+  };
+
+  const fetchUsers = async (pageNumber = page) => {
     try {
       setLoading(true);
-      const response = await axios.get('/api/admin/users');
-      setUsers(response.data);
+      const response = await axios.get('/api/admin/users', {
+        params: {
+          role: roleFilter !== 'ALL' ? roleFilter : undefined,
+          q: searchTerm.trim() || undefined,
+          page: pageNumber,
+          size: PAGE_SIZE
+        }
+      });
+      setUsers(response.data.content);
+      setPage(response.data.number);
+      setTotalPages(response.data.totalPages);
+      setTotalElements(response.data.totalElements);
       setError(null);
     } catch (error) {
       console.error("Error fetching users", error);
@@ -174,8 +207,9 @@ const ManageUsers = () => {
         
         // Update local state
         setUsers(users.filter(user => user.id !== userId));
+        fetchSummary();
         setActionMenu(null);
-        alert("User deleted successfully");
+        alert("User deletion started. Their requests and tickets are being removed in the background.");
       } catch (error) {
         console.error("Error deleting user", error);
         alert("Failed to delete user.");
@@ -194,6 +228,7 @@ const ManageUsers = () => {
       setUsers(users.map(user => 
         user.id === userId ? { ...user, status: newStatus } : user
       ));
+      fetchSummary();
       
       setActionMenu(null);
       alert(`User ${newStatus.toLowerCase()} successfully`);
@@ -203,19 +238,19 @@ const ManageUsers = () => {
     }
   };
 
-  const filteredUsers = users.filter(user => {
-    const matchesSearch = (user.name?.toLowerCase() || '').includes(searchTerm.toLowerCase()) ||
-                         (user.email?.toLowerCase() || '').includes(searchTerm.toLowerCase());
-    
-    const matchesRole = roleFilter === 'ALL' || 
-                       (roleFilter === 'USER' && user.role === 'ROLE_USER') ||
-                       (roleFilter === 'ADMIN' && user.role === 'ROLE_ADMIN') ||
-                       (roleFilter === 'PICKUP_PERSON' && user.role === 'ROLE_PICKUP_PERSON');
-    
-    return matchesSearch && matchesRole;
-  });
+  // Role filter and name/email prefix search are applied server-side
+  const filteredUsers = users;
 
   const getRoleStats = () => {
+    if (summary) {
+      return {
+        total: summary.total,
+        admins: summary.ROLE_ADMIN,
+        pickupPersons: summary.ROLE_PICKUP_PERSON,
+        regularUsers: summary.ROLE_USER,
+        activeUsers: summary.active
+      };
+    }
     const total = users.length;
     const admins = users.filter(u => u.role === 'ROLE_ADMIN').length;
     const pickupPersons = users.filter(u => u.role === 'ROLE_PICKUP_PERSON').length;
@@ -356,7 +391,7 @@ const ManageUsers = () => {
               </div>
               
               <button 
-                onClick={fetchUsers}
+                onClick={() => fetchUsers()}
                 disabled={loading}
                 className="flex items-center gap-2 px-4 py-3 text-gray-600 bg-gray-50 border border-gray-200 rounded-xl hover:bg-gray-100 transition-all duration-300 backdrop-blur-sm"
               >
@@ -509,6 +544,12 @@ const ManageUsers = () => {
           ))}
         </div>
 
+        {totalPages > 1 && (
+          <div className="bg-white/80 rounded-2xl shadow-lg border border-gray-200/50 backdrop-blur-sm overflow-hidden">
+            <Pager page={page} totalPages={totalPages} totalElements={totalElements} onPageChange={fetchUsers} />
+          </div>
+        )}
+
         {/* Empty State */}
         {filteredUsers.length === 0 && (
           <div className="bg-white/80 rounded-2xl shadow-lg border border-gray-200/50 backdrop-blur-sm p-12 text-center">
@@ -133,7 +133,7 @@ const PickupPersonManagement = () => {
     try {
       await axios.delete(`http://localhost:8080/api/admin/pickup-persons/${personId}`);
       fetchPickupPersons();
-      alert("Pickup Person Deleted Successfully!");
+      alert("Pickup person deletion started. Their account and data are being removed in the background.");
     } catch (error) {
       console.error("Error deleting person", error);
       alert(error.response?.data?.message || "Failed to delete pickup person");
@@ -169,12 +169,12 @@ const PickupPersonManagement = () => {
   const openEditModal = (person) => {
     setSelectedPerson(person);
     setFormData({
-      name: person.user.name,
-      email: person.user.email,
+      name: person.name,
+      email: person.email,
       password: '********', 
-      phone: person.user.phoneNumber || '',
+      phone: person.phoneNumber || '',
       vehicleNumber: person.vehicleNumber || '',
-      address: person.user.address || '',
+      address: person.address || '',
       available: person.available
     });
     setShowEditModal(true);
@@ -188,8 +188,8 @@ const PickupPersonManagement = () => {
   };
 
   const filteredPersons = pickupPersons.filter(person =>
-    (person.user.name.toLowerCase().includes(searchTerm.toLowerCase()) ||
-     person.user.email.toLowerCase().includes(searchTerm.toLowerCase()) ||
+    (person.name.toLowerCase().includes(searchTerm.toLowerCase()) ||
+     person.email.toLowerCase().includes(searchTerm.toLowerCase()) ||
      (person.vehicleNumber && person.vehicleNumber.toLowerCase().includes(searchTerm.toLowerCase()))) &&
     (statusFilter === 'ALL' || 
      (statusFilter === 'ACTIVE' && person.available) ||
@@ -329,7 +329,7 @@ const PickupPersonManagement = () => {
                     </div>
                     <div>
                       <h3 className="text-xl font-semibold text-gray-900 group-hover:text-green-600 transition-colors">
-                        {person.user.name}
+                        {person.name}
                       </h3>
                       <p className="text-sm text-gray-500">ID: {person.id}</p>
                     </div>
@@ -383,11 +383,11 @@ const PickupPersonManagement = () => {
                 <div className="space-y-4">
                   <div className="flex items-center gap-3 p-3 bg-gray-50/50 rounded-xl border border-gray-200/50 backdrop-blur-sm">
                     <Mail className="h-4 w-4 text-blue-500" />
-                    <span className="text-sm font-medium text-gray-900">{person.user.email}</span>
+                    <span className="text-sm font-medium text-gray-900">{person.email}</span>
                   </div>
                   <div className="flex items-center gap-3 p-3 bg-gray-50/50 rounded-xl border border-gray-200/50 backdrop-blur-sm">
                     <Phone className="h-4 w-4 text-green-500" />
-                    <span className="text-sm font-medium text-gray-900">{person.user.phoneNumber || 'N/A'}</span>
+                    <span className="text-sm font-medium text-gray-900">{person.phoneNumber || 'N/A'}</span>
                   </div>
                   <div className="flex items-center gap-3 p-3 bg-gray-50/50 rounded-xl border border-gray-200/50 backdrop-blur-sm">
                     <Car className="h-4 w-4 text-purple-500" />
@@ -19,7 +19,7 @@ const NewRequest = () => {
     model: '',
     condition: '',
     quantity: 1,
-    pickupAddress: user?.pickupAddress || '',
+    pickupAddress: user?.address || user?.pickupAddress || '',
     remarks: '',
     images: {
       front: null,
@@ -31,6 +31,8 @@ const NewRequest = () => {
   });
 
   const [loading, setLoading] = useState(false);
+  // One key per form: a resubmit after a dropped connection replays the first response instead of creating a second request
+  const [idempotencyKey] = useState(() => crypto.randomUUID());
   const [locationLoading, setLocationLoading] = useState(false); // Specific loading state for location
   const [imagePreviews, setImagePreviews] = useState({
     front: null,
@@ -205,7 +207,8 @@ const NewRequest = () => {
 
       await axios.post('http://localhost:8080/api/requests', submitData, {
         headers: {
-          'Authorization': `Bearer ${token}`
+          'Authorization': `Bearer ${token}`,
+          'Idempotency-Key': idempotencyKey
         }
       });
 
@@ -216,6 +219,12 @@ const NewRequest = () => {
       console.error('Error submitting request:', error);
       if (error.response?.status === 401) alert("Session expired. Please login again.");
       else if (error.response?.status === 413) alert("Files are too large!");
+      else if (error.response?.status === 409) {
+        alert(`You already submitted this request (request #${error.response.data.requestId}). No new request was created.`);
+      }
+      else if (error.response?.status === 429 || error.response?.status === 503) {
+        alert(`Too many submissions right now. Please try again in ${error.response.headers['retry-after'] || 'a few'} seconds.`);
+      }
       else alert(`Error: ${error.response?.data?.message || 'Submission failed'}`);
     } finally {
       setLoading(false);
@@ -0,0 +1,37 @@
+import React from 'react';
+import { ChevronLeft, ChevronRight } from 'lucide-react';
+
+// Previous/next controls for a Spring page (page is zero-based)
+const Pager = ({ page, totalPages, totalElements, onPageChange }) => {
+  if (totalPages <= 1) {
+    return null;
+  }
+
+  return (
+    <div className="flex items-center justify-between px-6 py-4 border-t border-gray-200/50 bg-gray-50/50 backdrop-blur-sm">
+      <span className="text-sm text-gray-600">
+        Page {page + 1} of {totalPages} • {totalElements} total
+      </span>
+      <div className="flex gap-2">
+        <button
+          onClick={() => onPageChange(page - 1)}
+          disabled={page === 0}
+          className="p-2 text-gray-600 bg-white rounded-xl border border-gray-200 hover:bg-gray-100 transition-all duration-300 disabled:opacity-50 disabled:cursor-not-allowed"
+          title="Previous page"
+        >
+          <ChevronLeft className="h-4 w-4" />
+        </button>
+        <button
+          onClick={() => onPageChange(page + 1)}
+          disabled={page + 1 >= totalPages}
+          className="p-2 text-gray-600 bg-white rounded-xl border border-gray-200 hover:bg-gray-100 transition-all duration-300 disabled:opacity-50 disabled:cursor-not-allowed"
+          title="Next page"
+        >
+          <ChevronRight className="h-4 w-4" />
+        </button>
+      </div>
+    </div>
+  );
+};
+
+export default Pager;
@@ -40,7 +40,7 @@ const DailyReports = () => {
   const fetchReports = async () => {
     try {
       const response = await axios.get('/api/reports/my-daily-reports');
-      const allReports = response.data;
+      const allReports = response.data.content || [];
       
       const filteredReports = allReports.filter(report => report.date === selectedDate);
       
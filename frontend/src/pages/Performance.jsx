@@ -27,33 +27,30 @@ const Performance = () => {
 
   const fetchPerformanceData = async () => {
     try {
-      const response = await axios.get('/api/pickup/my-assigned-requests');
-      const requests = response.data;
-      
-      const completedRequests = requests.filter(r => r.status === 'COMPLETED' || r.status === 'COLLECTED');
-      
-      const totalJobs = requests.length;
-      const completedJobs = completedRequests.length;
+      const response = await axios.get('/api/pickup/performance', { params: { period: timeRange } });
+      const kpis = response.data;
+
+      const totalJobs = kpis.assignedJobs || 0;
+      const completedJobs = kpis.completedJobs || 0;
       const totalEarnings = completedJobs * 15;
 
       const mockData = {
         overallRating: 4.8,
         totalJobs: totalJobs,
         completedJobs: completedJobs,
-        onTimeRate: 95,
-        averageCollectionTime: '22 min',
+        onTimeRate: kpis.onTimeRate ?? 'N/A',
+        averageCollectionTime: kpis.averageTurnaroundMinutes != null ? `${Math.round(kpis.averageTurnaroundMinutes)} min` : 'N/A',
         customerSatisfaction: 96,
         earnings: totalEarnings,
         environmentalImpact: completedJobs * 3.5, // kg CO₂ saved per job
         materialsRecovered: completedJobs * 2.1, // kg materials per job
-        performanceTrend: [
-          { month: 'Jan', jobs: 12, rating: 4.7, onTime: 92, co2: 42 },
-          { month: 'Feb', jobs: 15, rating: 4.8, onTime: 94, co2: 52.5 },
-          { month: 'Mar', jobs: 18, rating: 4.9, onTime: 96, co2: 63 },
-          { month: 'Apr', jobs: 14, rating: 4.8, onTime: 95, co2: 49 },
-          { month: 'May', jobs: 16, rating: 4.7, onTime: 93, co2: 56 },
-          { month: 'Jun', jobs: 20, rating: 4.9, onTime: 97, co2: 70 }
-        ],
+        performanceTrend: (kpis.weeklyTrend || []).map(week => ({
+          month: new Date(week.weekStart).toLocaleDateString('en-US', { month: 'short', day: 'numeric' }),
+          jobs: week.completedJobs,
+          rating: 4.8,
+          onTime: week.onTimeRate ?? 0,
+          co2: week.completedJobs * 3.5
+        })),
         achievements: [
           { name: 'First 10 Eco-Missions', earned: completedJobs >= 10, date: '2024-03-15', icon: '🌱' },
           { name: 'Eco-Driver (50 Jobs)', earned: completedJobs >= 50, date: '2024-04-22', icon: '♻️' },
@@ -27,19 +27,6 @@ const TrackYourImpact = () => {
     totalUsers: '100+'
   });
 
-  const deviceWeights = {
-    'LAPTOP': 2.5,
-    'DESKTOP': 10.0,
-    'MONITOR': 5.0,
-    'PRINTER': 8.0,
-    'TV': 15.0,
-    'MOBILE': 0.2,
-    'TABLET': 0.5,
-    'CAMERA': 0.5,
-    'HEADPHONES': 0.3,
-    'OTHER': 1.5
-  };
-
   useEffect(() => {
     fetchImpactData();
   }, []);
@@ -47,56 +34,37 @@ const TrackYourImpact = () => {
   const fetchImpactData = async () => {
     try {
       setLoading(true);
-      const response = await axios.get('/api/requests/user');
-      const requests = response.data;
-
-      const recycledRequests = requests.filter(req => 
-        req.status === 'COMPLETED' || req.status === 'COLLECTED'
-      );
+      // Totals, monthly rollups and community position are aggregated on the server
+      const response = await axios.get('/api/impact/me');
+      const impact = response.data;
 
-      let totalItems = 0;
-      let totalWeight = 0;
-
-      recycledRequests.forEach(req => {
-        const qty = req.quantity || 1;
-        const type = req.deviceType ? req.deviceType.toUpperCase() : 'OTHER';
-        const weightPerItem = deviceWeights[type] || 1.5;
-        
-        totalItems += qty;
-        totalWeight += (qty * weightPerItem);
-      });
-
-      const co2Saved = totalItems * 2.5;
-      const energySaved = totalItems * 15;
-      const waterSaved = totalWeight * 20;
+      const totalItems = impact.totalItems;
+      const totalWeight = impact.totalWeightKg;
+      const co2Saved = impact.co2SavedKg;
 
       setImpactData({
         totalItems,
-        totalWeight: parseFloat(totalWeight.toFixed(1)),
-        co2Saved: parseFloat(co2Saved.toFixed(1)),
-        energySaved: parseFloat(energySaved.toFixed(0)),
-        waterSaved: parseFloat(waterSaved.toFixed(0))
+        totalWeight,
+        co2Saved,
+        energySaved: parseFloat(impact.energySavedKwh.toFixed(0)),
+        waterSaved: parseFloat(impact.waterSavedLiters.toFixed(0))
       });
 
       const months = ['Jan', 'Feb', 'Mar', 'Apr', 'May', 'Jun', 'Jul', 'Aug', 'Sep', 'Oct', 'Nov', 'Dec'];
       const historyMap = {};
 
+      const currentYear = new Date().getFullYear();
       const currentMonthIndex = new Date().getMonth();
       for (let i = 0; i <= currentMonthIndex; i++) {
         historyMap[months[i]] = { month: months[i], co2: 0, items: 0 };
       }
 
-      recycledRequests.forEach(req => {
-        if (req.createdAt) {
-          const date = new Date(req.createdAt);
-          if (date.getFullYear() === new Date().getFullYear()) {
-            const monthName = months[date.getMonth()];
-            const qty = req.quantity || 1;
-            if (historyMap[monthName]) {
-              historyMap[monthName].items += qty;
-              historyMap[monthName].co2 += (qty * 2.5);
-            }
-          }
+      impact.history.forEach(entry => {
+        const [year, month] = entry.month.split('-').map(Number);
+        const monthName = months[month - 1];
+        if (year === currentYear && historyMap[monthName]) {
+          historyMap[monthName].items = entry.items;
+          historyMap[monthName].co2 = entry.co2Kg;
         }
       });
 
@@ -139,14 +107,18 @@ const TrackYourImpact = () => {
       setBadges(newBadges);
 
       let rank = 'Novice';
+      if (totalItems > 50) rank = 'Elite Recycler';
+      else if (totalItems > 20) rank = 'Eco Champion';
+      else if (totalItems > 10) rank = 'Green Advocate';
+      else if (totalItems > 0) rank = 'Contributor';
+
       let percentile = 0;
-      
-      if (totalItems > 50) { rank = 'Elite Recycler'; percentile = 99; }
-      else if (totalItems > 20) { rank = 'Eco Champion'; percentile = 90; }
-      else if (totalItems > 10) { rank = 'Green Advocate'; percentile = 75; }
-      else if (totalItems > 0) { rank = 'Contributor'; percentile = 50; }
-      
-      setCommunityRank(prev => ({ ...prev, rank, percentile }));
+      if (impact.communityPosition > 0 && impact.communityParticipants > 0) {
+        percentile = Math.round(100 * (impact.communityParticipants - impact.communityPosition) / impact.communityParticipants);
+      }
+      const totalUsers = impact.communityParticipants;
+
+      setCommunityRank({ rank, percentile, totalUsers });
 
     } catch (error) {
       console.error('Error fetching impact data:', error);